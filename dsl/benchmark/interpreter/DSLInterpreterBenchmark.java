@@ -0,0 +1,41 @@
+package interpreter;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures {@link DSLInterpreter#getQuestConfig(String)} for a quest config with a level graph of
+ * the given number of nodes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DSLInterpreterBenchmark {
+
+    @Param({"2", "16", "128"})
+    public int nodeCount;
+
+    private String program;
+
+    @Setup
+    public void setup() {
+        StringBuilder graph = new StringBuilder("graph g {\n    n0");
+        for (int i = 1; i < nodeCount; i++) graph.append(" -- n").append(i);
+        program =
+                graph
+                        + "\n}\n"
+                        + """
+                quest_config c {
+                    level_graph: g,
+                    quest_points: 42,
+                    quest_desc: "Hello",
+                    password: "TESTPW"
+                }
+                """;
+    }
+
+    @Benchmark
+    public Object getQuestConfig() {
+        return new DSLInterpreter().getQuestConfig(program);
+    }
+}
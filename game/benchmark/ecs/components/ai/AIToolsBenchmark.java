@@ -0,0 +1,44 @@
+package ecs.components.ai;
+
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import java.util.concurrent.TimeUnit;
+import level.elements.tile.Tile;
+import level.generator.randomwalk.RandomWalkGenerator;
+import level.tools.Coordinate;
+import level.tools.DesignLabel;
+import level.tools.LevelSize;
+import org.openjdk.jmh.annotations.*;
+import starter.Game;
+
+/** Measures {@link AITools#calculatePath} between random floor tiles of a generated level. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AIToolsBenchmark {
+    private static final int PATHS = 64;
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public LevelSize levelSize;
+
+    private final Coordinate[] starts = new Coordinate[PATHS];
+    private final Coordinate[] ends = new Coordinate[PATHS];
+    private final GraphPath<Tile> path = new DefaultGraphPath<>();
+    private int next = 0;
+
+    @Setup
+    public void setup() {
+        Game.currentLevel = new RandomWalkGenerator().getLevel(DesignLabel.DEFAULT, levelSize);
+        for (int i = 0; i < PATHS; i++) {
+            starts[i] = Game.currentLevel.getRandomFloorTile().getCoordinate();
+            ends[i] = Game.currentLevel.getRandomFloorTile().getCoordinate();
+        }
+    }
+
+    @Benchmark
+    public GraphPath<Tile> calculatePath() {
+        next = (next + 1) % PATHS;
+        AITools.calculatePath(starts[next], ends[next], path);
+        return path;
+    }
+}
@@ -0,0 +1,48 @@
+package ecs.systems;
+
+import controller.SystemController;
+import ecs.components.HitboxComponent;
+import ecs.components.PositionComponent;
+import ecs.entities.Entity;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import starter.Game;
+import tools.Point;
+
+/** Measures one update of the {@link CollisionSystem} for entities spread over an area. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CollisionSystemBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int entityCount;
+
+    private CollisionSystem system;
+
+    @Setup
+    public void setup() {
+        Game.systems = new SystemController();
+        Game.getEntities().clear();
+        Game.getEntitiesToAdd().clear();
+        Game.getEntitiesToRemove().clear();
+        system = new CollisionSystem();
+        // about one entity per 4 tiles, so some hitboxes overlap
+        float side = (float) Math.sqrt(entityCount * 4);
+        Random random = new Random(42);
+        for (int i = 0; i < entityCount; i++) {
+            Entity entity = new Entity();
+            new PositionComponent(
+                    entity, new Point(random.nextFloat() * side, random.nextFloat() * side));
+            new HitboxComponent(entity, (a, b, c) -> {}, (a, b, c) -> {});
+        }
+        Game.getEntities().addAll(Game.getEntitiesToAdd());
+        Game.getEntitiesToAdd().clear();
+    }
+
+    @Benchmark
+    public void update() {
+        system.update();
+    }
+}
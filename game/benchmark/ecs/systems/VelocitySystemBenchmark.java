@@ -0,0 +1,69 @@
+package ecs.systems;
+
+import controller.SystemController;
+import ecs.components.AnimationComponent;
+import ecs.components.PositionComponent;
+import ecs.components.VelocityComponent;
+import ecs.entities.Entity;
+import graphic.Animation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import level.elements.TileLevel;
+import level.tools.DesignLabel;
+import level.tools.LevelElement;
+import org.openjdk.jmh.annotations.*;
+import starter.Game;
+import tools.Point;
+
+/** Measures one update of the {@link VelocitySystem} for moving entities. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VelocitySystemBenchmark {
+    private static final int LEVEL_SIZE = 100;
+
+    @Param({"10", "100", "1000"})
+    public int entityCount;
+
+    private VelocitySystem system;
+    private final List<VelocityComponent> velocities = new ArrayList<>();
+    private float direction = 1;
+
+    @Setup
+    public void setup() {
+        LevelElement[][] layout = new LevelElement[LEVEL_SIZE][LEVEL_SIZE];
+        for (LevelElement[] row : layout) Arrays.fill(row, LevelElement.FLOOR);
+        Game.currentLevel = new TileLevel(layout, DesignLabel.DEFAULT);
+        Game.systems = new SystemController();
+        Game.getEntities().clear();
+        Game.getEntitiesToAdd().clear();
+        Game.getEntitiesToRemove().clear();
+        system = new VelocitySystem();
+        Animation animation = new Animation(List.of("animation"), 1);
+        Random random = new Random(42);
+        for (int i = 0; i < entityCount; i++) {
+            Entity entity = new Entity();
+            int x = 1 + random.nextInt(LEVEL_SIZE - 2);
+            int y = 1 + random.nextInt(LEVEL_SIZE - 2);
+            new PositionComponent(entity, new Point(x, y));
+            new AnimationComponent(entity, animation);
+            velocities.add(new VelocityComponent(entity, 0.1f, 0.1f, animation, animation));
+        }
+        Game.getEntities().addAll(Game.getEntitiesToAdd());
+        Game.getEntitiesToAdd().clear();
+    }
+
+    @Benchmark
+    public void update() {
+        // move back and forth, so the entities stay in the level
+        direction = -direction;
+        for (VelocityComponent vc : velocities) {
+            vc.setCurrentXVelocity(direction * vc.getXVelocity());
+            vc.setCurrentYVelocity(direction * vc.getYVelocity());
+        }
+        system.update();
+    }
+}
@@ -0,0 +1,30 @@
+package level.elements;
+
+import java.util.concurrent.TimeUnit;
+import level.generator.randomwalk.RandomWalkGenerator;
+import level.tools.DesignLabel;
+import level.tools.LevelElement;
+import level.tools.LevelSize;
+import org.openjdk.jmh.annotations.*;
+
+/** Measures the construction of a {@link TileLevel} from a generated layout. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TileLevelBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public LevelSize levelSize;
+
+    private LevelElement[][] layout;
+
+    @Setup
+    public void setup() {
+        layout = new RandomWalkGenerator().getLayout(levelSize);
+    }
+
+    @Benchmark
+    public TileLevel construct() {
+        return new TileLevel(layout, DesignLabel.DEFAULT);
+    }
+}
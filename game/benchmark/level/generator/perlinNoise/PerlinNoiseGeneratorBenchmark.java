@@ -0,0 +1,30 @@
+package level.generator.perlinNoise;
+
+import java.util.concurrent.TimeUnit;
+import level.elements.ILevel;
+import level.tools.DesignLabel;
+import level.tools.LevelElement;
+import level.tools.LevelSize;
+import org.openjdk.jmh.annotations.*;
+
+/** Measures the {@link PerlinNoiseGenerator}, with and without building the level. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PerlinNoiseGeneratorBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public LevelSize levelSize;
+
+    private final PerlinNoiseGenerator generator = new PerlinNoiseGenerator();
+
+    @Benchmark
+    public LevelElement[][] getLayout() {
+        return generator.getLayout(levelSize);
+    }
+
+    @Benchmark
+    public ILevel getLevel() {
+        return generator.getLevel(DesignLabel.DEFAULT, levelSize);
+    }
+}
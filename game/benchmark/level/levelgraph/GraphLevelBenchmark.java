@@ -0,0 +1,31 @@
+package level.levelgraph;
+
+import java.util.concurrent.TimeUnit;
+import level.tools.DesignLabel;
+import level.tools.LevelSize;
+import org.openjdk.jmh.annotations.*;
+
+/** Measures the generation of a {@link GraphLevel} for a chain of rooms. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GraphLevelBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public LevelSize levelSize;
+
+    @Param({"2", "8", "32"})
+    public int roomCount;
+
+    @Benchmark
+    public GraphLevel graphLevel() {
+        LevelNode root = new LevelNode();
+        LevelNode last = root;
+        for (int i = 1; i < roomCount; i++) {
+            LevelNode node = new LevelNode();
+            last.connect(node);
+            last = node;
+        }
+        return new GraphLevel(root, levelSize, DesignLabel.DEFAULT);
+    }
+}
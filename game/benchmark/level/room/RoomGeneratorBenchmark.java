@@ -0,0 +1,28 @@
+package level.room;
+
+import java.util.concurrent.TimeUnit;
+import level.levelgraph.DoorDirection;
+import level.tools.LevelElement;
+import level.tools.LevelSize;
+import org.openjdk.jmh.annotations.*;
+
+/** Measures the {@link RoomGenerator} for a single room with two doors. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RoomGeneratorBenchmark {
+    // indexed by DoorDirection#getValue
+    private static final DoorDirection[] TWO_DOORS = {
+        DoorDirection.UP, null, DoorDirection.DOWN, null
+    };
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public LevelSize levelSize;
+
+    private final RoomGenerator generator = new RoomGenerator();
+
+    @Benchmark
+    public LevelElement[][] getLayout() {
+        return generator.getLayout(levelSize, TWO_DOORS);
+    }
+}
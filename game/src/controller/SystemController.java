@@ -1,22 +1,123 @@
 package controller;
 
 import ecs.systems.System;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import logging.CustomLogLevel;
 
-/** used to integrate Systems in PM-Dungeon game loop */
+/**
+ * used to integrate Systems in PM-Dungeon game loop
+ *
+ * <p>{@link #update()} runs one simulation tick and updates all systems except the render systems,
+ * {@link #render()} updates the render systems once per drawn frame.
+ *
+ * <p>Every update of a system is measured, see {@link #getStatistics(System)} and {@link
+ * #getTickStatistics()}.
+ */
 public class SystemController extends AbstractController<System> {
 
+    private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN = allocationBean();
+
+    private final Map<System, SystemStatistics> statistics = new LinkedHashMap<>();
+    private final SystemStatistics tickStatistics = new SystemStatistics();
+
     public SystemController() {
         super();
     }
 
+    @Override
+    public void update() {
+        long allocatedBytes = allocatedBytes();
+        long start = java.lang.System.nanoTime();
+        super.update();
+        long nanos = java.lang.System.nanoTime() - start;
+        tickStatistics.add(nanos, allocatedBytesSince(allocatedBytes), -1);
+    }
+
+    /** Updates all render systems, see {@link System#isRenderSystem()} */
+    public void render() {
+        for (System system : this) {
+            if (system.isRenderSystem()) run(system);
+        }
+    }
+
     @Override
     public void process(System e) {
+        if (!e.isRenderSystem()) run(e);
+    }
+
+    @Override
+    public boolean remove(System system) {
+        statistics.remove(system);
+        return super.remove(system);
+    }
+
+    @Override
+    public void clear() {
+        statistics.clear();
+        super.clear();
+    }
+
+    /**
+     * @param system system to get the timings for
+     * @return timings of the last updates of the system, <code>null</code> if the system was not
+     *     updated yet
+     */
+    public SystemStatistics getStatistics(System system) {
+        return statistics.get(system);
+    }
+
+    /**
+     * @return timings of all systems that were updated, in the order of their first update
+     */
+    public Map<System, SystemStatistics> getStatistics() {
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    /**
+     * @return timings of the last simulation ticks, i.e. of all calls of {@link #update()}
+     */
+    public SystemStatistics getTickStatistics() {
+        return tickStatistics;
+    }
+
+    private void run(System e) {
         if (e.isRunning()) {
-            e.systemLogger.log(
-                    CustomLogLevel.TRACE,
-                    "System '" + e.getClass().getSimpleName() + "' is running.");
+            if (e.systemLogger.isLoggable(CustomLogLevel.TRACE)) {
+                e.systemLogger.log(
+                        CustomLogLevel.TRACE,
+                        "System '" + e.getClass().getSimpleName() + "' is running.");
+            }
+            long allocatedBytes = allocatedBytes();
+            long start = java.lang.System.nanoTime();
             e.update();
+            long nanos = java.lang.System.nanoTime() - start;
+            statistics
+                    .computeIfAbsent(e, x -> new SystemStatistics())
+                    .add(nanos, allocatedBytesSince(allocatedBytes), e.getEntityCount());
         }
     }
+
+    private static long allocatedBytes() {
+        return ALLOCATION_BEAN == null ? -1 : ALLOCATION_BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    private static long allocatedBytesSince(long allocatedBytes) {
+        return allocatedBytes < 0 ? -1 : allocatedBytes() - allocatedBytes;
+    }
+
+    /**
+     * @return the bean to measure the allocations of the game thread, <code>null</code> if the JVM
+     *     does not support it
+     */
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean allocationBean
+                && allocationBean.isThreadAllocatedMemorySupported()
+                && allocationBean.isThreadAllocatedMemoryEnabled()) return allocationBean;
+        return null;
+    }
 }
@@ -0,0 +1,87 @@
+package controller;
+
+import java.util.Arrays;
+
+/**
+ * Timings of a system (or of a whole simulation tick) over the last {@link #SAMPLES} updates.
+ *
+ * <p>Used by the {@link SystemController} to find out which system takes how much of the frame
+ * budget. Percentiles are calculated on request from the stored samples.
+ */
+public class SystemStatistics {
+    /** Number of updates the percentiles are calculated from. */
+    public static final int SAMPLES = 128;
+
+    private final long[] durations = new long[SAMPLES];
+    private final long[] sorted = new long[SAMPLES];
+    private int sampleCount = 0;
+    private int next = 0;
+    private long lastNanos;
+    private long lastAllocatedBytes = -1;
+    private int lastEntityCount = -1;
+
+    /**
+     * Adds the measurement of one update.
+     *
+     * @param nanos duration of the update in nanoseconds
+     * @param allocatedBytes bytes allocated by the update, -1 if unknown
+     * @param entityCount number of processed entities, -1 if unknown
+     */
+    void add(long nanos, long allocatedBytes, int entityCount) {
+        durations[next] = nanos;
+        next = (next + 1) % SAMPLES;
+        sampleCount = Math.min(sampleCount + 1, SAMPLES);
+        lastNanos = nanos;
+        lastAllocatedBytes = allocatedBytes;
+        lastEntityCount = entityCount;
+    }
+
+    /**
+     * @return duration of the last update in nanoseconds
+     */
+    public long getLastNanos() {
+        return lastNanos;
+    }
+
+    /**
+     * @return bytes allocated on the game thread during the last update, -1 if the JVM does not
+     *     support measuring allocations
+     */
+    public long getLastAllocatedBytes() {
+        return lastAllocatedBytes;
+    }
+
+    /**
+     * @return number of entities processed in the last update, -1 if unknown
+     */
+    public int getLastEntityCount() {
+        return lastEntityCount;
+    }
+
+    /**
+     * @param percentile percentile between 0 and 100
+     * @return duration in nanoseconds that the given percentage of the last updates did not exceed,
+     *     0 if there was no update yet
+     */
+    public long getPercentileNanos(double percentile) {
+        if (sampleCount == 0) return 0;
+        System.arraycopy(durations, 0, sorted, 0, sampleCount);
+        Arrays.sort(sorted, 0, sampleCount);
+        int index = (int) Math.ceil(percentile / 100 * sampleCount) - 1;
+        return sorted[Math.max(0, Math.min(sampleCount - 1, index))];
+    }
+
+    /**
+     * @return median duration of the last updates in nanoseconds
+     */
+    public long getP50Nanos() {
+        return getPercentileNanos(50);
+    }
+
+    /**
+     * @return 99th percentile of the duration of the last updates in nanoseconds
+     */
+    public long getP99Nanos() {
+        return getPercentileNanos(99);
+    }
+}
@@ -0,0 +1,162 @@
+package ecs.archetypes;
+
+import ecs.components.Component;
+import ecs.entities.Entity;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An Archetype groups all entities that have exactly the same set of component classes.
+ *
+ * <p>The entities and their components are stored in contiguous arrays (one column per component
+ * class), so a system can walk over all entities of an archetype without looking up every
+ * component in the per-entity map.
+ *
+ * <p>Rows are only valid until the next structural change of the {@link ArchetypeStore}. The store
+ * defers all structural changes while systems iterate over it.
+ */
+public final class Archetype {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Set<Class<? extends Component>> signature;
+    private final Map<Class<? extends Component>, Integer> columnIndex = new HashMap<>();
+    private final Component[][] columns;
+    private Entity[] entities;
+    private ArchetypeStore.Slot[] slots;
+    private int size;
+
+    /**
+     * Create a new, empty archetype.
+     *
+     * @param signature the component classes of all entities in this archetype
+     */
+    Archetype(Set<Class<? extends Component>> signature) {
+        this.signature = signature;
+        columns = new Component[signature.size()][];
+        int i = 0;
+        for (Class<? extends Component> klass : signature) {
+            columnIndex.put(klass, i);
+            columns[i] = new Component[INITIAL_CAPACITY];
+            i++;
+        }
+        entities = new Entity[INITIAL_CAPACITY];
+        slots = new ArchetypeStore.Slot[INITIAL_CAPACITY];
+    }
+
+    /**
+     * @return the component classes of all entities in this archetype
+     */
+    public Set<Class<? extends Component>> getSignature() {
+        return signature;
+    }
+
+    /**
+     * @param klass Class of the component
+     * @return true if all entities of this archetype have a component of the given class
+     */
+    public boolean has(Class<? extends Component> klass) {
+        return columnIndex.containsKey(klass);
+    }
+
+    /**
+     * @return number of entities in this archetype
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param row row of the entity
+     * @return the entity stored in the given row
+     */
+    public Entity getEntity(int row) {
+        return entities[row];
+    }
+
+    /**
+     * Get the column of the given component class.
+     *
+     * <p>The returned array is shared with the archetype and can be longer than {@link #size()}.
+     * Only the first {@link #size()} entries are valid.
+     *
+     * @param klass Class of the component
+     * @return the column, or null if the entities of this archetype have no such component
+     */
+    public Component[] getColumn(Class<? extends Component> klass) {
+        Integer index = columnIndex.get(klass);
+        return index == null ? null : columns[index];
+    }
+
+    /**
+     * Add the entity to the end of this archetype and bind the slot to the new row.
+     *
+     * @param entity entity to add
+     * @param slot the store slot of the entity
+     */
+    void add(Entity entity, ArchetypeStore.Slot slot) {
+        if (size == entities.length) grow();
+        entities[size] = entity;
+        slots[size] = slot;
+        slot.archetype = this;
+        slot.row = size;
+        size++;
+        write(slot.row, entity);
+    }
+
+    /**
+     * Copy the current components of the entity into its row.
+     *
+     * @param row row of the entity
+     * @param entity entity stored in the row
+     */
+    void write(int row, Entity entity) {
+        for (Component component : entity.getComponents()) {
+            columns[columnIndex.get(component.getClass())][row] = component;
+        }
+    }
+
+    /**
+     * Remove the given row. The last row is moved into the gap to keep the arrays dense.
+     *
+     * @param row row to remove
+     */
+    void remove(int row) {
+        int last = size - 1;
+        ArchetypeStore.Slot removed = slots[row];
+        if (row != last) {
+            entities[row] = entities[last];
+            slots[row] = slots[last];
+            slots[row].row = row;
+            for (Component[] column : columns) column[row] = column[last];
+        }
+        entities[last] = null;
+        slots[last] = null;
+        for (Component[] column : columns) column[last] = null;
+        size = last;
+        removed.archetype = null;
+        removed.row = -1;
+    }
+
+    /** Remove all rows from this archetype. */
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            slots[i].archetype = null;
+            slots[i].row = -1;
+        }
+        Arrays.fill(entities, 0, size, null);
+        Arrays.fill(slots, 0, size, null);
+        for (Component[] column : columns) Arrays.fill(column, 0, size, null);
+        size = 0;
+    }
+
+    private void grow() {
+        int capacity = entities.length * 2;
+        entities = Arrays.copyOf(entities, capacity);
+        slots = Arrays.copyOf(slots, capacity);
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = Arrays.copyOf(columns[i], capacity);
+        }
+    }
+}
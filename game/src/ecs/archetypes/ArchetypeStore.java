@@ -0,0 +1,207 @@
+package ecs.archetypes;
+
+import ecs.components.Component;
+import ecs.entities.Entity;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Stores all entities that are currently active in the dungeon, grouped by their {@link Archetype}.
+ *
+ * <p>The store is a {@link Set} of entities, so it can be used everywhere the game used a plain
+ * set before. Additionally, systems can iterate over the archetypes that contain the components
+ * they need via an {@link EntityQuery}, instead of looking up the components of every entity in
+ * the game. Queries are cached and kept up to date when new archetypes are created.
+ *
+ * <p>If the components of an entity change, the entity calls {@link #update(Entity)} to move it to
+ * the matching archetype. While a system is iterating over the store, all structural changes are
+ * deferred until the iteration has finished, so the rows of an archetype stay stable.
+ */
+public final class ArchetypeStore extends AbstractSet<Entity> {
+
+    /** Location of an entity inside the store. */
+    static final class Slot {
+        Archetype archetype;
+        int row = -1;
+    }
+
+    private final Map<Entity, Slot> members = new HashMap<>();
+    private final Map<Set<Class<? extends Component>>, Archetype> archetypes =
+            new LinkedHashMap<>();
+    private final Map<Set<Class<? extends Component>>, EntityQuery> queries = new HashMap<>();
+    private final Map<Entity, Slot> pending = new LinkedHashMap<>();
+    private int iterating = 0;
+
+    /**
+     * Get the query for all entities that have the given components.
+     *
+     * <p>Queries with the same signature are shared. The query is kept up to date by the store, so
+     * it should be created once and reused in every frame.
+     *
+     * @param signature component classes an entity needs to be part of the query
+     * @return the cached query
+     */
+    @SafeVarargs
+    public final EntityQuery query(Class<? extends Component>... signature) {
+        return queries.computeIfAbsent(Set.of(signature), this::createQuery);
+    }
+
+    /**
+     * Call the action for every non-empty archetype that contains all given component classes.
+     *
+     * <p>Changes to the store during the iteration are applied after the last action returned.
+     * Systems that run every frame should keep the {@link #query(Class[])} instead.
+     *
+     * @param action action to perform for each matching archetype
+     * @param signature component classes the archetype must contain
+     */
+    @SafeVarargs
+    public final void forEachArchetype(
+            Consumer<Archetype> action, Class<? extends Component>... signature) {
+        query(signature).forEach(action);
+    }
+
+    /**
+     * Move the entity to the archetype that matches its current components.
+     *
+     * <p>Does nothing if the entity is not part of this store.
+     *
+     * @param entity entity whose components changed
+     */
+    public void update(Entity entity) {
+        Slot slot = members.get(entity);
+        if (slot != null) reconcile(entity, slot);
+    }
+
+    @Override
+    public boolean add(Entity entity) {
+        if (members.containsKey(entity)) return false;
+        // reuse the slot if the entity was removed and re-added during an iteration
+        Slot slot = pending.containsKey(entity) ? pending.get(entity) : new Slot();
+        members.put(entity, slot);
+        reconcile(entity, slot);
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!(o instanceof Entity entity)) return false;
+        Slot slot = members.remove(entity);
+        if (slot == null) return false;
+        reconcile(entity, slot);
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return members.containsKey(o);
+    }
+
+    @Override
+    public int size() {
+        return members.size();
+    }
+
+    @Override
+    public void clear() {
+        if (iterating > 0) {
+            for (Map.Entry<Entity, Slot> entry : members.entrySet()) {
+                pending.put(entry.getKey(), entry.getValue());
+            }
+            members.clear();
+            return;
+        }
+        members.clear();
+        pending.clear();
+        archetypes.values().forEach(Archetype::clear);
+    }
+
+    @Override
+    public Iterator<Entity> iterator() {
+        Iterator<Map.Entry<Entity, Slot>> it = members.entrySet().iterator();
+        return new Iterator<>() {
+            private Map.Entry<Entity, Slot> current;
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public Entity next() {
+                current = it.next();
+                return current.getKey();
+            }
+
+            @Override
+            public void remove() {
+                it.remove();
+                reconcile(current.getKey(), current.getValue());
+            }
+        };
+    }
+
+    private void reconcile(Entity entity, Slot slot) {
+        if (iterating > 0) {
+            pending.put(entity, slot);
+            return;
+        }
+        if (members.get(entity) != slot) {
+            // entity is no longer part of the store
+            if (slot.archetype != null) slot.archetype.remove(slot.row);
+            return;
+        }
+        Archetype target = archetypeOf(entity);
+        if (slot.archetype == target) {
+            target.write(slot.row, entity);
+        } else {
+            if (slot.archetype != null) slot.archetype.remove(slot.row);
+            target.add(entity, slot);
+        }
+    }
+
+    /** Defer all structural changes until {@link #unlock()} is called. */
+    void lock() {
+        iterating++;
+    }
+
+    /** Apply the deferred structural changes, if no other iteration is running. */
+    void unlock() {
+        iterating--;
+        if (iterating == 0) flush();
+    }
+
+    private EntityQuery createQuery(Set<Class<? extends Component>> signature) {
+        EntityQuery query = new EntityQuery(this, signature);
+        archetypes.values().forEach(query::offer);
+        return query;
+    }
+
+    private void flush() {
+        while (!pending.isEmpty()) {
+            Iterator<Map.Entry<Entity, Slot>> it = pending.entrySet().iterator();
+            Map.Entry<Entity, Slot> entry = it.next();
+            it.remove();
+            reconcile(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private Archetype archetypeOf(Entity entity) {
+        Set<Class<? extends Component>> signature = new HashSet<>();
+        for (Component component : entity.getComponents()) signature.add(component.getClass());
+        Archetype archetype = archetypes.get(signature);
+        if (archetype == null) {
+            signature = Set.copyOf(signature);
+            archetype = new Archetype(signature);
+            archetypes.put(signature, archetype);
+            for (EntityQuery query : queries.values()) query.offer(archetype);
+        }
+        return archetype;
+    }
+}
@@ -0,0 +1,75 @@
+package ecs.archetypes;
+
+import ecs.components.Component;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * A cached view on all entities of an {@link ArchetypeStore} that have a given set of components.
+ *
+ * <p>The query remembers the matching archetypes. The store adds every newly created archetype
+ * that matches, so a system never has to filter the entities of the game itself. Create the query
+ * once (e.g. as a field of the system) via {@link ArchetypeStore#query(Class[])} and iterate it in
+ * every frame.
+ */
+public final class EntityQuery {
+    private final ArchetypeStore store;
+    private final Set<Class<? extends Component>> signature;
+    private final List<Archetype> archetypes = new ArrayList<>();
+
+    /**
+     * Create a new query. Use {@link ArchetypeStore#query(Class[])} to get a query.
+     *
+     * @param store store to query
+     * @param signature component classes an entity needs to be part of this query
+     */
+    EntityQuery(ArchetypeStore store, Set<Class<? extends Component>> signature) {
+        this.store = store;
+        this.signature = signature;
+    }
+
+    /**
+     * @return the component classes an entity needs to be part of this query
+     */
+    public Set<Class<? extends Component>> getSignature() {
+        return signature;
+    }
+
+    /**
+     * Call the action for every non-empty archetype of this query.
+     *
+     * <p>Changes to the store during the iteration are applied after the last action returned.
+     *
+     * @param action action to perform for each matching archetype
+     */
+    public void forEach(Consumer<Archetype> action) {
+        store.lock();
+        try {
+            for (Archetype archetype : archetypes) {
+                if (archetype.size() > 0) action.accept(archetype);
+            }
+        } finally {
+            store.unlock();
+        }
+    }
+
+    /**
+     * @return number of entities that are currently part of this query
+     */
+    public int size() {
+        int size = 0;
+        for (Archetype archetype : archetypes) size += archetype.size();
+        return size;
+    }
+
+    /**
+     * Add the archetype to this query if it contains all components of the signature.
+     *
+     * @param archetype newly created archetype of the store
+     */
+    void offer(Archetype archetype) {
+        if (archetype.getSignature().containsAll(signature)) archetypes.add(archetype);
+    }
+}
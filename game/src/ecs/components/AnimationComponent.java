@@ -3,8 +3,8 @@ package ecs.components;
 import ecs.entities.Entity;
 import graphic.Animation;
 import java.util.List;
-import java.util.logging.Logger;
 import logging.CustomLogLevel;
+import logging.GameLogger;
 import semanticAnalysis.types.DSLContextMember;
 import semanticAnalysis.types.DSLType;
 import semanticAnalysis.types.DSLTypeMember;
@@ -19,7 +19,7 @@ public class AnimationComponent extends Component {
     private @DSLTypeMember(name = "idle_left") Animation idleLeft;
     private @DSLTypeMember(name = "idle_right") Animation idleRight;
     private @DSLTypeMember(name = "current_animation") Animation currentAnimation;
-    private final Logger animCompLogger = Logger.getLogger(this.getClass().getName());
+    private final GameLogger animCompLogger = GameLogger.getLogger(this.getClass());
 
     /**
      * @param entity associated entity
@@ -76,6 +76,7 @@ public class AnimationComponent extends Component {
      * @return current animation of the entity
      */
     public Animation getCurrentAnimation() {
+        if (!animCompLogger.isDebugEnabled()) return currentAnimation;
         if (currentAnimation.getAnimationFrames().size() > 0) {
             animCompLogger.log(
                     CustomLogLevel.DEBUG,
@@ -1,7 +1,7 @@
 package ecs.components;
 
 import ecs.entities.Entity;
-import java.util.logging.Logger;
+import logging.GameLogger;
 
 /*+
  *Component is a piece of data associated with an entity
@@ -21,13 +21,14 @@ public abstract class Component {
     public Component(Entity entity) {
         this.entity = entity;
         entity.addComponent(this);
-        Logger componentLogger = Logger.getLogger(this.getClass().getName());
+        GameLogger componentLogger = GameLogger.getLogger(this.getClass());
         componentLogger.info(
-                "The component '"
-                        + this.getClass().getSimpleName()
-                        + "' was added to entity '"
-                        + entity.getClass().getSimpleName()
-                        + "'.");
+                () ->
+                        "The component '"
+                                + this.getClass().getSimpleName()
+                                + "' was added to entity '"
+                                + entity.getClass().getSimpleName()
+                                + "'.");
     }
 
     /**
@@ -2,9 +2,9 @@ package ecs.components;
 
 import ecs.components.collision.ICollide;
 import ecs.entities.Entity;
-import java.util.logging.Logger;
 import level.elements.tile.Tile;
 import logging.CustomLogLevel;
+import logging.GameLogger;
 import semanticAnalysis.types.DSLContextMember;
 import semanticAnalysis.types.DSLType;
 import tools.Point;
@@ -18,11 +18,19 @@ public class HitboxComponent extends Component {
     private /*@DSLTypeMember(name="size")*/ Point size;
     private ICollide iCollideEnter;
     private ICollide iCollideLeave;
-    private final Logger hitboxLogger = Logger.getLogger(this.getClass().getName());
+    // cached axis-aligned bounding box, see updateBounds
+    private float minX;
+    private float minY;
+    private float maxX;
+    private float maxY;
+    private final GameLogger hitboxLogger = GameLogger.getLogger(this.getClass());
 
     /**
      * Creates A Hitbox
      *
+     * <p>If the entity already has a position, the bounding box is calculated from it, otherwise
+     * it is calculated by the next {@link #updateBounds()}.
+     *
      * @param entity associated entity
      * @param offset the offset for the hitbox to the position
      * @param size the size for the hitbox
@@ -40,6 +48,8 @@ public class HitboxComponent extends Component {
         this.size = size;
         this.iCollideEnter = iCollideEnter;
         this.iCollideLeave = iCollideLeave;
+        entity.getComponent(PositionComponent.class)
+                .ifPresent(pc -> updateBounds((PositionComponent) pc));
     }
 
     /**
@@ -77,14 +87,16 @@ public class HitboxComponent extends Component {
      */
     public void onLeave(HitboxComponent other, Tile.Direction direction) {
         if (iCollideLeave != null) {
-            hitboxLogger.log(
-                    CustomLogLevel.DEBUG,
-                    this.getClass().getSimpleName()
-                            + " is processing collision between entities '"
-                            + entity.getClass().getSimpleName()
-                            + "' and '"
-                            + other.getClass().getSimpleName()
-                            + "'.");
+            if (hitboxLogger.isDebugEnabled()) {
+                hitboxLogger.log(
+                        CustomLogLevel.DEBUG,
+                        this.getClass().getSimpleName()
+                                + " is processing collision between entities '"
+                                + entity.getClass().getSimpleName()
+                                + "' and '"
+                                + other.getClass().getSimpleName()
+                                + "'.");
+            }
             iCollideLeave.onCollision(this.entity, other.entity, direction);
         }
     }
@@ -128,6 +140,74 @@ public class HitboxComponent extends Component {
                 pc.getPosition().y + offset.y + size.y / 2);
     }
 
+    /**
+     * Recalculates the cached bounding box from the position of the associated entity.
+     *
+     * <p>Does not allocate any objects, use {@link #updateBounds(PositionComponent)} if the
+     * PositionComponent is already known to skip the component lookup.
+     */
+    public void updateBounds() {
+        PositionComponent pc =
+                (PositionComponent)
+                        getEntity()
+                                .getComponent(PositionComponent.class)
+                                .orElseThrow(HitboxComponent::getMissingPositionComponentException);
+        updateBounds(pc);
+    }
+
+    /**
+     * Recalculates the cached bounding box from the given position.
+     *
+     * @param pc PositionComponent of the associated entity
+     */
+    public void updateBounds(PositionComponent pc) {
+        Point position = pc.getPosition();
+        minX = position.x + offset.x;
+        minY = position.y + offset.y;
+        maxX = minX + size.x;
+        maxY = minY + size.y;
+    }
+
+    /**
+     * Checks if the cached bounding boxes of this and the other hitbox intersect.
+     *
+     * <p>Both bounding boxes have to be up to date, see {@link #updateBounds()}.
+     *
+     * @param other hitbox of another entity
+     * @return true if the hitboxes intersect, otherwise false
+     */
+    public boolean intersects(HitboxComponent other) {
+        return minX < other.maxX && maxX > other.minX && minY < other.maxY && maxY > other.minY;
+    }
+
+    /**
+     * @return x value of the cached bottom left point
+     */
+    public float getMinX() {
+        return minX;
+    }
+
+    /**
+     * @return y value of the cached bottom left point
+     */
+    public float getMinY() {
+        return minY;
+    }
+
+    /**
+     * @return x value of the cached top right point
+     */
+    public float getMaxX() {
+        return maxX;
+    }
+
+    /**
+     * @return y value of the cached top right point
+     */
+    public float getMaxY() {
+        return maxY;
+    }
+
     /**
      * @param iCollideEnter new collideMethod of the associated entity
      */
@@ -4,15 +4,15 @@ import ecs.entities.Entity;
 import ecs.items.ItemData;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.logging.Logger;
 import logging.CustomLogLevel;
+import logging.GameLogger;
 
 /** Allows an Entity to carry Items */
 public class InventoryComponent extends Component {
 
     private List<ItemData> inventory;
     private int maxSize;
-    private final Logger inventoryLogger = Logger.getLogger(this.getClass().getName());
+    private final GameLogger inventoryLogger = GameLogger.getLogger(this.getClass());
 
     /**
      * creates a new InventoryComponent
@@ -35,13 +35,15 @@ public class InventoryComponent extends Component {
      */
     public boolean addItem(ItemData itemData) {
         if (inventory.size() >= maxSize) return false;
-        inventoryLogger.log(
-                CustomLogLevel.DEBUG,
-                "Item '"
-                        + this.getClass().getSimpleName()
-                        + "' was added to the inventory of entity '"
-                        + entity.getClass().getSimpleName()
-                        + "'.");
+        if (inventoryLogger.isDebugEnabled()) {
+            inventoryLogger.log(
+                    CustomLogLevel.DEBUG,
+                    "Item '"
+                            + this.getClass().getSimpleName()
+                            + "' was added to the inventory of entity '"
+                            + entity.getClass().getSimpleName()
+                            + "'.");
+        }
         return inventory.add(itemData);
     }
 
@@ -52,13 +54,15 @@ public class InventoryComponent extends Component {
      * @return true if the element was removed, otherwise false
      */
     public boolean removeItem(ItemData itemData) {
-        inventoryLogger.log(
-                CustomLogLevel.DEBUG,
-                "Removing item '"
-                        + this.getClass().getSimpleName()
-                        + "' from inventory of entity '"
-                        + entity.getClass().getSimpleName()
-                        + "'.");
+        if (inventoryLogger.isDebugEnabled()) {
+            inventoryLogger.log(
+                    CustomLogLevel.DEBUG,
+                    "Removing item '"
+                            + this.getClass().getSimpleName()
+                            + "' from inventory of entity '"
+                            + entity.getClass().getSimpleName()
+                            + "'.");
+        }
         return inventory.remove(itemData);
     }
 
@@ -3,8 +3,8 @@ package ecs.components;
 import ecs.components.skill.Skill;
 import ecs.entities.Entity;
 import java.util.Optional;
-import java.util.logging.Logger;
 import logging.CustomLogLevel;
+import logging.GameLogger;
 
 /**
  * This component is for the player character entity only. It should only be implemented by one
@@ -14,7 +14,7 @@ import logging.CustomLogLevel;
 public class PlayableComponent extends Component {
 
     private boolean playable;
-    private final Logger playableCompLogger = Logger.getLogger(this.getClass().getName());
+    private final GameLogger playableCompLogger = GameLogger.getLogger(this.getClass());
 
     private Skill skillSlot1;
     private Skill skillSlot2;
@@ -41,12 +41,14 @@ public class PlayableComponent extends Component {
      * @return the playable state
      */
     public boolean isPlayable() {
-        playableCompLogger.log(
-                CustomLogLevel.DEBUG,
-                "Checking if entity '"
-                        + entity.getClass().getSimpleName()
-                        + "' is playable: "
-                        + playable);
+        if (playableCompLogger.isDebugEnabled()) {
+            playableCompLogger.log(
+                    CustomLogLevel.DEBUG,
+                    "Checking if entity '"
+                            + entity.getClass().getSimpleName()
+                            + "' is playable: "
+                            + playable);
+        }
         return playable;
     }
 
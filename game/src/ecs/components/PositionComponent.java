@@ -1,8 +1,8 @@
 package ecs.components;
 
 import ecs.entities.Entity;
-import java.util.logging.Logger;
 import logging.CustomLogLevel;
+import logging.GameLogger;
 import semanticAnalysis.types.DSLContextMember;
 import semanticAnalysis.types.DSLType;
 import starter.Game;
@@ -12,8 +12,9 @@ import tools.Point;
 @DSLType(name = "position_component")
 public class PositionComponent extends Component {
 
-    private final Logger positionCompLogger = Logger.getLogger(this.getClass().getName());
+    private final GameLogger positionCompLogger = GameLogger.getLogger(this.getClass());
     private /*@DSLTypeMember(name="position")*/ Point position;
+    private Point previousPosition;
 
     /**
      * Creates a new PositionComponent at a given point.
@@ -74,21 +75,72 @@ public class PositionComponent extends Component {
      * @return the position of the associated entity
      */
     public Point getPosition() {
-        positionCompLogger.log(
-                CustomLogLevel.DEBUG,
-                "Fetching position for entity '"
-                        + entity.getClass().getSimpleName()
-                        + "': x = "
-                        + position.x
-                        + " --- y = "
-                        + position.y);
+        if (positionCompLogger.isDebugEnabled()) {
+            positionCompLogger.log(
+                    CustomLogLevel.DEBUG,
+                    "Fetching position for entity '"
+                            + entity.getClass().getSimpleName()
+                            + "': x = "
+                            + position.x
+                            + " --- y = "
+                            + position.y);
+        }
         return position;
     }
 
     /**
+     * Sets the position without interpolation, e.g. to teleport the associated entity.
+     *
      * @param position new Position of the associated entity
      */
     public void setPosition(Point position) {
         this.position = position;
+        previousPosition = null;
+    }
+
+    /**
+     * Moves the associated entity in a simulation tick.
+     *
+     * <p>Other than {@link #setPosition(Point)}, the position before the move is kept, so the
+     * movement can be drawn smoothly between two ticks, see {@link
+     * #getInterpolatedPosition(float)}.
+     *
+     * @param position new Position of the associated entity
+     */
+    public void moveTo(Point position) {
+        previousPosition = this.position;
+        this.position = position;
+    }
+
+    /**
+     * @param alpha how far the time to draw is between the last and the next simulation tick, from
+     *     0 (last tick) to 1 (next tick)
+     * @return the position between the position before and after the last move
+     */
+    public Point getInterpolatedPosition(float alpha) {
+        if (previousPosition == null || previousPosition == position) return position;
+        return new Point(
+                previousPosition.x + (position.x - previousPosition.x) * alpha,
+                previousPosition.y + (position.y - previousPosition.y) * alpha);
+    }
+
+    /**
+     * Like {@link #getInterpolatedPosition(float)}, but writes the position into the given point
+     * instead of allocating a new one, for code that runs for every entity in every frame.
+     *
+     * @param alpha how far the time to draw is between the last and the next simulation tick, from
+     *     0 (last tick) to 1 (next tick)
+     * @param out point the interpolated position is written to
+     * @return <code>out</code>
+     */
+    public Point getInterpolatedPosition(float alpha, Point out) {
+        if (previousPosition == null || previousPosition == position) {
+            out.x = position.x;
+            out.y = position.y;
+        } else {
+            out.x = previousPosition.x + (position.x - previousPosition.x) * alpha;
+            out.y = previousPosition.y + (position.y - previousPosition.y) * alpha;
+        }
+        return out;
     }
 }
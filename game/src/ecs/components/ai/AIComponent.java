@@ -19,6 +19,8 @@ public class AIComponent extends Component {
     private /*@DSLTypeMember(name="fight_ai)*/ IFightAI fightAI;
     private /*@DSLTypeMember(name="idle_ai)*/ IIdleAI idleAI;
     private /*@DSLTypeMember(name="transition_ai)*/ ITransition transitionAI;
+    private boolean planned = false;
+    private boolean plannedFightMode;
 
     /**
      * @param entity associated entity
@@ -43,9 +45,24 @@ public class AIComponent extends Component {
         fightAI = new CollideAI(2f);
     }
 
+    /**
+     * Decides if the entity fights and lets the chosen ai prepare its next step.
+     *
+     * <p>Can be called on a worker thread, see {@link IIdleAI#plan(Entity)}. The following call of
+     * {@link #execute()} uses the decision made here.
+     */
+    public void plan() {
+        plannedFightMode = transitionAI.isInFightMode(entity);
+        planned = true;
+        if (plannedFightMode) fightAI.plan(entity);
+        else idleAI.plan(entity);
+    }
+
     /** Excecute the ai behavior */
     public void execute() {
-        if (transitionAI.isInFightMode(entity)) fightAI.fight(entity);
+        boolean fightMode = planned ? plannedFightMode : transitionAI.isInFightMode(entity);
+        planned = false;
+        if (fightMode) fightAI.fight(entity);
         else idleAI.idle(entity);
     }
 
@@ -1,12 +1,15 @@
 package ecs.components.ai;
 
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
 import com.badlogic.gdx.ai.pfa.GraphPath;
+import ecs.components.Component;
 import ecs.components.MissingComponentException;
 import ecs.components.PositionComponent;
 import ecs.components.VelocityComponent;
 import ecs.entities.Entity;
 import java.util.*;
 import level.elements.ILevel;
+import level.elements.astar.FlowField;
 import level.elements.tile.Tile;
 import level.tools.Coordinate;
 import starter.Game;
@@ -14,6 +17,7 @@ import tools.Point;
 
 public class AITools {
     private static final Random random = new Random();
+    private static final FlowField heroFlowField = new FlowField();
 
     /**
      * Sets the velocity of the passed entity so that it takes the next necessary step to get to the
@@ -23,8 +27,8 @@ public class AITools {
      * @param path Path on which the entity moves
      */
     public static void move(Entity entity, GraphPath<Tile> path) {
-        // entity is already at the end
-        if (pathFinishedOrLeft(entity, path)) {
+        // no path was found or entity is already at the end
+        if (path.getCount() == 0 || pathFinishedOrLeft(entity, path)) {
             return;
         }
         PositionComponent pc =
@@ -115,14 +119,39 @@ public class AITools {
         return calculatePath(from.toCoordinate(), to.toCoordinate());
     }
 
+    /**
+     * @param from start point
+     * @param to end point
+     * @param path Path to store the path from the start point to the end point in
+     * @return true if a path was found, otherwise false and the path is empty
+     */
+    public static boolean calculatePath(Point from, Point to, GraphPath<Tile> path) {
+        return calculatePath(from.toCoordinate(), to.toCoordinate(), path);
+    }
+
     /**
      * @param from start coordinate
      * @param to end coordinate
      * @return Path from the start coordinate to the end coordinate
      */
     public static GraphPath<Tile> calculatePath(Coordinate from, Coordinate to) {
+        GraphPath<Tile> path = new DefaultGraphPath<>();
+        calculatePath(from, to, path);
+        return path;
+    }
+
+    /**
+     * Uses the pathfinder of the current level, so the search does not create new objects if the
+     * given path is reused.
+     *
+     * @param from start coordinate
+     * @param to end coordinate
+     * @param path Path to store the path from the start coordinate to the end coordinate in
+     * @return true if a path was found, otherwise false and the path is empty
+     */
+    public static boolean calculatePath(Coordinate from, Coordinate to, GraphPath<Tile> path) {
         ILevel level = Game.currentLevel;
-        return level.findPath(level.getTileAt(from), level.getTileAt(to));
+        return level.findPath(level.getTileAt(from), level.getTileAt(to), path);
     }
 
     /**
@@ -134,8 +163,24 @@ public class AITools {
      * @return Path from the center point to the randomly selected tile
      */
     public static GraphPath<Tile> calculatePathToRandomTileInRange(Point point, float radius) {
+        GraphPath<Tile> path = new DefaultGraphPath<>();
+        calculatePathToRandomTileInRange(point, radius, path);
+        return path;
+    }
+
+    /**
+     * Finds the path to a random (accessible) tile in the given radius, starting from the given
+     * center point
+     *
+     * @param point Center point
+     * @param radius Search radius
+     * @param path Path to store the path from the center point to the randomly selected tile in
+     * @return true if a path was found, otherwise false and the path is empty
+     */
+    public static boolean calculatePathToRandomTileInRange(
+            Point point, float radius, GraphPath<Tile> path) {
         Coordinate newPosition = getRandomAccessibleTileCoordinateInRange(point, radius);
-        return calculatePath(point.toCoordinate(), newPosition);
+        return calculatePath(point.toCoordinate(), newPosition, path);
     }
 
     /**
@@ -147,6 +192,23 @@ public class AITools {
      * @return Path from the position of the entity to the randomly selected tile
      */
     public static GraphPath<Tile> calculatePathToRandomTileInRange(Entity entity, float radius) {
+        GraphPath<Tile> path = new DefaultGraphPath<>();
+        calculatePathToRandomTileInRange(entity, radius, path);
+        return path;
+    }
+
+    /**
+     * Finds the path to a random (accessible) tile in the given radius, starting from the position
+     * of the given entity.
+     *
+     * @param entity Entity whose position is the center point
+     * @param radius Search radius
+     * @param path Path to store the path from the position of the entity to the randomly selected
+     *     tile in
+     * @return true if a path was found, otherwise false and the path is empty
+     */
+    public static boolean calculatePathToRandomTileInRange(
+            Entity entity, float radius, GraphPath<Tile> path) {
         Point point =
                 ((PositionComponent)
                                 entity.getComponent(PositionComponent.class)
@@ -155,7 +217,7 @@ public class AITools {
                                                         new MissingComponentException(
                                                                 "PositionComponent")))
                         .getPosition();
-        return calculatePathToRandomTileInRange(point, radius);
+        return calculatePathToRandomTileInRange(point, radius, path);
     }
 
     /**
@@ -166,6 +228,20 @@ public class AITools {
      * @return Path
      */
     public static GraphPath<Tile> calculatePath(Entity from, Entity to) {
+        GraphPath<Tile> path = new DefaultGraphPath<>();
+        calculatePath(from, to, path);
+        return path;
+    }
+
+    /**
+     * Finds the path from the position of one entity to the position of another entity.
+     *
+     * @param from Entity whose position is the start point
+     * @param to Entity whose position is the goal point
+     * @param path Path to store the path in
+     * @return true if a path was found, otherwise false and the path is empty
+     */
+    public static boolean calculatePath(Entity from, Entity to, GraphPath<Tile> path) {
         PositionComponent fromPositionComponent =
                 (PositionComponent)
                         from.getComponent(PositionComponent.class)
@@ -176,17 +252,83 @@ public class AITools {
                         to.getComponent(PositionComponent.class)
                                 .orElseThrow(
                                         () -> new MissingComponentException("PositionComponent"));
-        return calculatePath(fromPositionComponent.getPosition(), positionComponent.getPosition());
+        return calculatePath(
+                fromPositionComponent.getPosition(), positionComponent.getPosition(), path);
     }
 
     /**
+     * Reads the path to the hero from the shared flow field, see {@link #getHeroFlowField()}.
+     *
      * @param entity
      * @return Path from the entity to the hero, if there is no hero, path from the entity to itself
      */
     public static GraphPath<Tile> calculatePathToHero(Entity entity) {
+        GraphPath<Tile> path = new DefaultGraphPath<>();
+        calculatePathToHero(entity, path);
+        return path;
+    }
+
+    /**
+     * Reads the path to the hero from the shared flow field, see {@link #getHeroFlowField()}.
+     *
+     * @param entity
+     * @param path Path to store the path from the entity to the hero in, if there is no hero, path
+     *     from the entity to itself
+     */
+    public static void calculatePathToHero(Entity entity, GraphPath<Tile> path) {
+        Optional<Entity> hero = Game.getHero();
+        if (hero.isEmpty()) {
+            calculatePath(entity, entity, path);
+            return;
+        }
+        PositionComponent pc =
+                (PositionComponent)
+                        entity.getComponent(PositionComponent.class)
+                                .orElseThrow(
+                                        () -> new MissingComponentException("PositionComponent"));
+        getHeroFlowField()
+                .fillPath(Game.currentLevel.getTileAt(pc.getPosition().toCoordinate()), path);
+    }
+
+    /**
+     * @param entity Entity that wants to move to the hero
+     * @return the next tile on the way from the entity to the hero, <code>null</code> if the entity
+     *     is already on the tile of the hero, the hero can not be reached or there is no hero
+     */
+    public static Tile getNextTileToHero(Entity entity) {
+        if (Game.getHero().isEmpty()) return null;
+        PositionComponent pc =
+                (PositionComponent)
+                        entity.getComponent(PositionComponent.class)
+                                .orElseThrow(
+                                        () -> new MissingComponentException("PositionComponent"));
+        return getHeroFlowField()
+                .getNextTile(Game.currentLevel.getTileAt(pc.getPosition().toCoordinate()));
+    }
+
+    /**
+     * Returns the flow field towards the tile of the hero.
+     *
+     * <p>The flow field is shared by all entities and only calculated again if the hero moved to
+     * another tile or the level changed, so any number of monsters can chase the hero for the cost
+     * of one search.
+     *
+     * <p>Synchronized, because the ai of several entities can be planned in parallel, see {@link
+     * ecs.systems.AISystem}.
+     *
+     * @return the flow field towards the hero, the goal is <code>null</code> if there is no hero
+     */
+    public static synchronized FlowField getHeroFlowField() {
+        ILevel level = Game.currentLevel;
+        Tile goal = null;
         Optional<Entity> hero = Game.getHero();
-        if (hero.isPresent()) return calculatePath(entity, hero.get());
-        else return calculatePath(entity, entity);
+        if (hero.isPresent()) {
+            Optional<Component> pc = hero.get().getComponent(PositionComponent.class);
+            if (pc.isPresent())
+                goal = level.getTileAt(((PositionComponent) pc.get()).getPosition().toCoordinate());
+        }
+        heroFlowField.update(level, goal);
+        return heroFlowField;
     }
 
     /**
@@ -1,5 +1,6 @@
 package ecs.components.ai.fight;
 
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
 import com.badlogic.gdx.ai.pfa.GraphPath;
 import ecs.components.ai.AITools;
 import ecs.entities.Entity;
@@ -10,7 +11,9 @@ public class CollideAI implements IFightAI {
     private final float rushRange;
     private final int delay = Constants.FRAME_RATE;
     private int timeSinceLastUpdate = delay;
-    private GraphPath<Tile> path;
+    private GraphPath<Tile> path = new DefaultGraphPath<>();
+    private GraphPath<Tile> plannedPath = new DefaultGraphPath<>();
+    private boolean planned = false;
 
     /**
      * Attacks the player by colliding if he is within the given range. Otherwise, it will move
@@ -22,21 +25,36 @@ public class CollideAI implements IFightAI {
         this.rushRange = rushRange;
     }
 
+    @Override
+    public void plan(Entity entity) {
+        planned = AITools.playerInRange(entity, rushRange) || timeSinceLastUpdate >= delay;
+        if (planned) AITools.calculatePathToHero(entity, plannedPath);
+    }
+
     @Override
     public void fight(Entity entity) {
         if (AITools.playerInRange(entity, rushRange)) {
             // the faster pathing once a certain range is reached
-            path = AITools.calculatePathToHero(entity);
+            updatePath(entity);
             AITools.move(entity, path);
             timeSinceLastUpdate = delay;
         } else {
             // check if new pathing update
             if (timeSinceLastUpdate >= delay) {
-                path = AITools.calculatePathToHero(entity);
+                updatePath(entity);
                 timeSinceLastUpdate = -1;
             }
             timeSinceLastUpdate++;
             AITools.move(entity, path);
         }
     }
+
+    private void updatePath(Entity entity) {
+        if (planned) {
+            GraphPath<Tile> previous = path;
+            path = plannedPath;
+            plannedPath = previous;
+            planned = false;
+        } else AITools.calculatePathToHero(entity, path);
+    }
 }
@@ -10,4 +10,15 @@ public interface IFightAI {
      * @param entity associated entity
      */
     void fight(Entity entity);
+
+    /**
+     * Prepares the next call of {@link #fight(Entity)}, e.g. by searching a new path.
+     *
+     * <p>Can be called on a worker thread in parallel to the planning of other entities. It must
+     * only read the game state and only write the state of this AI, all changes of the game (like
+     * setting the velocity or executing a skill) belong into {@link #fight(Entity)}.
+     *
+     * @param entity associated entity
+     */
+    default void plan(Entity entity) {}
 }
@@ -1,5 +1,6 @@
 package ecs.components.ai.fight;
 
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
 import com.badlogic.gdx.ai.pfa.GraphPath;
 import ecs.components.ai.AITools;
 import ecs.components.skill.Skill;
@@ -12,7 +13,9 @@ public class MeleeAI implements IFightAI {
     private final int delay = Constants.FRAME_RATE;
     private int timeSinceLastUpdate = 0;
     private final Skill fightSkill;
-    private GraphPath<Tile> path;
+    private GraphPath<Tile> path = new DefaultGraphPath<>();
+    private GraphPath<Tile> plannedPath = new DefaultGraphPath<>();
+    private boolean planned = false;
 
     /**
      * Attacks the player if he is within the given range. Otherwise, it will move towards the
@@ -26,17 +29,32 @@ public class MeleeAI implements IFightAI {
         this.fightSkill = fightSkill;
     }
 
+    @Override
+    public void plan(Entity entity) {
+        planned = !AITools.playerInRange(entity, attackRange) && timeSinceLastUpdate >= delay;
+        if (planned) AITools.calculatePathToHero(entity, plannedPath);
+    }
+
     @Override
     public void fight(Entity entity) {
         if (AITools.playerInRange(entity, attackRange)) {
             fightSkill.execute(entity);
         } else {
             if (timeSinceLastUpdate >= delay) {
-                path = AITools.calculatePathToHero(entity);
+                updatePath(entity);
                 timeSinceLastUpdate = -1;
             }
             timeSinceLastUpdate++;
             AITools.move(entity, path);
         }
     }
+
+    private void updatePath(Entity entity) {
+        if (planned) {
+            GraphPath<Tile> previous = path;
+            path = plannedPath;
+            plannedPath = previous;
+            planned = false;
+        } else AITools.calculatePathToHero(entity, path);
+    }
 }
@@ -10,4 +10,15 @@ public interface IIdleAI {
      * @param entity associated entity
      */
     void idle(Entity entity);
+
+    /**
+     * Prepares the next call of {@link #idle(Entity)}, e.g. by searching a new path.
+     *
+     * <p>Can be called on a worker thread in parallel to the planning of other entities. It must
+     * only read the game state and only write the state of this AI, all changes of the game (like
+     * setting the velocity) belong into {@link #idle(Entity)}.
+     *
+     * @param entity associated entity
+     */
+    default void plan(Entity entity) {}
 }
@@ -1,5 +1,6 @@
 package ecs.components.ai.idle;
 
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
 import com.badlogic.gdx.ai.pfa.GraphPath;
 import ecs.components.MissingComponentException;
 import ecs.components.PositionComponent;
@@ -33,7 +34,8 @@ public class PatrouilleWalk implements IIdleAI {
     private final int pauseFrames;
     private final float radius;
     private final MODE mode;
-    private GraphPath<Tile> currentPath;
+    // empty if there is no current path
+    private final GraphPath<Tile> currentPath = new DefaultGraphPath<>();
     private boolean initialized = false;
     private boolean forward = true;
     private int frameCounter = -1;
@@ -98,20 +100,20 @@ public class PatrouilleWalk implements IIdleAI {
                                 .orElseThrow(
                                         () -> new MissingComponentException("PositionComponent"));
 
-        if (currentPath != null && !AITools.pathFinished(entity, currentPath)) {
+        if (currentPath.getCount() > 0 && !AITools.pathFinished(entity, currentPath)) {
             if (AITools.pathLeft(entity, currentPath)) {
-                currentPath =
-                        AITools.calculatePath(
-                                position.getPosition(),
-                                this.checkpoints.get(currentCheckpoint).getCoordinate().toPoint());
+                AITools.calculatePath(
+                        position.getPosition(),
+                        this.checkpoints.get(currentCheckpoint).getCoordinate().toPoint(),
+                        currentPath);
             }
             AITools.move(entity, currentPath);
             return;
         }
 
-        if (currentPath != null && AITools.pathFinished(entity, currentPath)) {
+        if (currentPath.getCount() > 0 && AITools.pathFinished(entity, currentPath)) {
             frameCounter = 0;
-            currentPath = null;
+            currentPath.clear();
             return;
         }
 
@@ -119,24 +121,24 @@ public class PatrouilleWalk implements IIdleAI {
             return;
         }
 
-        // HERE: (Path to checkpoint finished + pause time over) OR currentPath = null
+        // HERE: (Path to checkpoint finished + pause time over) OR currentPath is empty
         this.frameCounter = -1;
 
         switch (mode) {
             case RANDOM -> {
                 Random rnd = new Random();
                 currentCheckpoint = rnd.nextInt(checkpoints.size());
-                currentPath =
-                        AITools.calculatePath(
-                                position.getPosition(),
-                                this.checkpoints.get(currentCheckpoint).getCoordinate().toPoint());
+                AITools.calculatePath(
+                        position.getPosition(),
+                        this.checkpoints.get(currentCheckpoint).getCoordinate().toPoint(),
+                        currentPath);
             }
             case LOOP -> {
                 currentCheckpoint = (currentCheckpoint + 1) % checkpoints.size();
-                currentPath =
-                        AITools.calculatePath(
-                                position.getPosition(),
-                                this.checkpoints.get(currentCheckpoint).getCoordinate().toPoint());
+                AITools.calculatePath(
+                        position.getPosition(),
+                        this.checkpoints.get(currentCheckpoint).getCoordinate().toPoint(),
+                        currentPath);
             }
             case BACK_AND_FORTH -> {
                 if (forward) {
@@ -152,10 +154,10 @@ public class PatrouilleWalk implements IIdleAI {
                         currentCheckpoint = 1;
                     }
                 }
-                currentPath =
-                        AITools.calculatePath(
-                                position.getPosition(),
-                                this.checkpoints.get(currentCheckpoint).getCoordinate().toPoint());
+                AITools.calculatePath(
+                        position.getPosition(),
+                        this.checkpoints.get(currentCheckpoint).getCoordinate().toPoint(),
+                        currentPath);
             }
             default -> {}
         }
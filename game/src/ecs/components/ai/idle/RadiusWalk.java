@@ -1,5 +1,6 @@
 package ecs.components.ai.idle;
 
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
 import com.badlogic.gdx.ai.pfa.GraphPath;
 import ecs.components.ai.AITools;
 import ecs.entities.Entity;
@@ -8,7 +9,9 @@ import tools.Constants;
 
 public class RadiusWalk implements IIdleAI {
     private final float radius;
-    private GraphPath<Tile> path;
+    private GraphPath<Tile> path = new DefaultGraphPath<>();
+    private GraphPath<Tile> plannedPath = new DefaultGraphPath<>();
+    private boolean planned = false;
     private final int breakTime;
     private int currentBreak = 0;
 
@@ -24,12 +27,19 @@ public class RadiusWalk implements IIdleAI {
         this.breakTime = breakTimeInSeconds * Constants.FRAME_RATE;
     }
 
+    @Override
+    public void plan(Entity entity) {
+        planned = currentBreak >= breakTime && needsNewPath(entity);
+        if (planned) AITools.calculatePathToRandomTileInRange(entity, radius, plannedPath);
+    }
+
     @Override
     public void idle(Entity entity) {
-        if (path == null || AITools.pathFinishedOrLeft(entity, path)) {
+        if (needsNewPath(entity)) {
             if (currentBreak >= breakTime) {
                 currentBreak = 0;
-                path = AITools.calculatePathToRandomTileInRange(entity, radius);
+                if (planned) usePlannedPath();
+                else AITools.calculatePathToRandomTileInRange(entity, radius, path);
                 idle(entity);
             }
 
@@ -37,4 +47,15 @@ public class RadiusWalk implements IIdleAI {
 
         } else AITools.move(entity, path);
     }
+
+    private boolean needsNewPath(Entity entity) {
+        return path.getCount() == 0 || AITools.pathFinishedOrLeft(entity, path);
+    }
+
+    private void usePlannedPath() {
+        GraphPath<Tile> finished = path;
+        path = plannedPath;
+        plannedPath = finished;
+        planned = false;
+    }
 }
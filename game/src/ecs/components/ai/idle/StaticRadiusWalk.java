@@ -2,6 +2,7 @@ package ecs.components.ai.idle;
 
 import static ecs.components.ai.AITools.getRandomAccessibleTileCoordinateInRange;
 
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
 import com.badlogic.gdx.ai.pfa.GraphPath;
 import ecs.components.PositionComponent;
 import ecs.components.ai.AITools;
@@ -12,7 +13,9 @@ import tools.Point;
 
 public class StaticRadiusWalk implements IIdleAI {
     private final float radius;
-    private GraphPath<Tile> path;
+    private GraphPath<Tile> path = new DefaultGraphPath<>();
+    private GraphPath<Tile> plannedPath = new DefaultGraphPath<>();
+    private boolean planned = false;
     private final int breakTime;
     private int currentBreak = 0;
     private Point center;
@@ -31,28 +34,49 @@ public class StaticRadiusWalk implements IIdleAI {
         this.breakTime = breakTimeInSeconds * Constants.FRAME_RATE;
     }
 
+    @Override
+    public void plan(Entity entity) {
+        planned = currentBreak >= breakTime && needsNewPath(entity);
+        if (planned) calculatePath(entity, plannedPath);
+    }
+
     @Override
     public void idle(Entity entity) {
-        if (path == null || AITools.pathFinishedOrLeft(entity, path)) {
-            if (center == null) {
-                PositionComponent pc =
-                        (PositionComponent)
-                                entity.getComponent(PositionComponent.class).orElseThrow();
-                center = pc.getPosition();
-            }
+        if (needsNewPath(entity)) {
+            if (center == null) center = getPosition(entity);
 
             if (currentBreak >= breakTime) {
                 currentBreak = 0;
-                PositionComponent pc2 =
-                        (PositionComponent)
-                                entity.getComponent(PositionComponent.class).orElseThrow();
-                currentPosition = pc2.getPosition();
-                newEndTile = getRandomAccessibleTileCoordinateInRange(center, radius).toPoint();
-                path = AITools.calculatePath(currentPosition, newEndTile);
+                if (planned) usePlannedPath();
+                else calculatePath(entity, path);
                 idle(entity);
             }
             currentBreak++;
 
         } else AITools.move(entity, path);
     }
+
+    private boolean needsNewPath(Entity entity) {
+        return path.getCount() == 0 || AITools.pathFinishedOrLeft(entity, path);
+    }
+
+    private Point getPosition(Entity entity) {
+        PositionComponent pc =
+                (PositionComponent) entity.getComponent(PositionComponent.class).orElseThrow();
+        return pc.getPosition();
+    }
+
+    private void calculatePath(Entity entity, GraphPath<Tile> out) {
+        currentPosition = getPosition(entity);
+        if (center == null) center = currentPosition;
+        newEndTile = getRandomAccessibleTileCoordinateInRange(center, radius).toPoint();
+        AITools.calculatePath(currentPosition, newEndTile, out);
+    }
+
+    private void usePlannedPath() {
+        GraphPath<Tile> finished = path;
+        path = plannedPath;
+        plannedPath = finished;
+        planned = false;
+    }
 }
@@ -1,9 +1,11 @@
 package ecs.entities;
 
 import ecs.components.Component;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Optional;
-import java.util.logging.Logger;
+import logging.GameLogger;
 import semanticAnalysis.types.DSLContextPush;
 import semanticAnalysis.types.DSLType;
 import starter.Game;
@@ -15,13 +17,13 @@ public class Entity {
     private static int nextId = 0;
     public final int id = nextId++;
     private HashMap<Class, Component> components;
-    private final Logger entityLogger;
+    private final GameLogger entityLogger = GameLogger.getLogger(this.getClass());
 
     public Entity() {
         components = new HashMap<>();
         Game.addEntity(this);
-        entityLogger = Logger.getLogger(this.getClass().getName());
-        entityLogger.info("The entity '" + this.getClass().getSimpleName() + "' was created.");
+        entityLogger.info(
+                () -> "The entity '" + this.getClass().getSimpleName() + "' was created.");
     }
 
     /**
@@ -31,6 +33,7 @@ public class Entity {
      */
     public void addComponent(Component component) {
         components.put(component.getClass(), component);
+        Game.getEntityStore().update(this);
     }
 
     /**
@@ -39,7 +42,7 @@ public class Entity {
      * @param klass Class of the component
      */
     public void removeComponent(Class klass) {
-        components.remove(klass);
+        if (components.remove(klass) != null) Game.getEntityStore().update(this);
     }
 
     /**
@@ -51,4 +54,11 @@ public class Entity {
     public Optional<Component> getComponent(Class klass) {
         return Optional.ofNullable(components.get(klass));
     }
+
+    /**
+     * @return unmodifiable view of all components of this entity
+     */
+    public Collection<Component> getComponents() {
+        return Collections.unmodifiableCollection(components.values());
+    }
 }
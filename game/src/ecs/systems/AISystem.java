@@ -1,25 +1,64 @@
 package ecs.systems;
 
+import ecs.archetypes.Archetype;
+import ecs.archetypes.EntityQuery;
+import ecs.components.Component;
 import ecs.components.ai.AIComponent;
-import ecs.entities.Entity;
-import starter.Game;
+import java.util.Arrays;
 
-/** Controls the AI */
+/**
+ * Controls the AI
+ *
+ * <p>In parallel mode the ai of all entities is planned first on the threads of the common fork
+ * join pool (decisions and path searches, see {@link AIComponent#plan()}). Afterwards the plans
+ * are executed one after another on the game thread, so only the game thread changes the velocity
+ * of the entities or executes skills.
+ */
 public class AISystem extends System {
 
-    private record AISData(Entity e, AIComponent aic) {}
+    private final EntityQuery query = query(AIComponent.class);
+    private final boolean parallel;
+    private AIComponent[] components = new AIComponent[64];
+    private int componentCount;
+
+    /** Create a new AISystem that executes the ai of all entities one after another */
+    public AISystem() {
+        this(false);
+    }
+
+    /**
+     * @param parallel if true, the ai of all entities is planned in parallel before it is executed
+     */
+    public AISystem(boolean parallel) {
+        this.parallel = parallel;
+    }
 
     @Override
     public void update() {
-        Game.getEntities().stream()
-                .flatMap(e -> e.getComponent(AIComponent.class).stream())
-                .map(aic -> buildDataObject((AIComponent) aic))
-                .forEach(aic -> aic.aic.execute());
+        if (parallel) planInParallel();
+        query.forEach(this::updateArchetype);
     }
 
-    private AISystem.AISData buildDataObject(AIComponent aic) {
-        Entity e = aic.getEntity();
+    private void planInParallel() {
+        componentCount = 0;
+        query.forEach(this::collectArchetype);
+        Arrays.stream(components, 0, componentCount).parallel().forEach(AIComponent::plan);
+        Arrays.fill(components, 0, componentCount, null);
+    }
+
+    private void collectArchetype(Archetype archetype) {
+        Component[] aics = archetype.getColumn(AIComponent.class);
+        if (components.length < componentCount + archetype.size())
+            components = Arrays.copyOf(components, 2 * (componentCount + archetype.size()));
+        for (int i = 0; i < archetype.size(); i++) {
+            components[componentCount++] = (AIComponent) aics[i];
+        }
+    }
 
-        return new AISData(e, aic);
+    private void updateArchetype(Archetype archetype) {
+        Component[] aics = archetype.getColumn(AIComponent.class);
+        for (int i = 0; i < archetype.size(); i++) {
+            ((AIComponent) aics[i]).execute();
+        }
     }
 }
@@ -0,0 +1,28 @@
+package ecs.systems;
+
+import ecs.archetypes.Archetype;
+import ecs.archetypes.EntityQuery;
+import ecs.components.AnimationComponent;
+import ecs.components.Component;
+
+/**
+ * Updates the current animation of all entities once per simulation tick, so animations play at
+ * the same speed regardless of how often the {@link DrawSystem} draws them.
+ */
+public class AnimationSystem extends System {
+
+    private final EntityQuery query = query(AnimationComponent.class);
+
+    /** Updates the current animation of all entities with an AnimationComponent */
+    @Override
+    public void update() {
+        query.forEach(this::updateArchetype);
+    }
+
+    private void updateArchetype(Archetype archetype) {
+        Component[] acs = archetype.getColumn(AnimationComponent.class);
+        for (int i = 0; i < archetype.size(); i++) {
+            ((AnimationComponent) acs[i]).getCurrentAnimation().update();
+        }
+    }
+}
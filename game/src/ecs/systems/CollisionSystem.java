@@ -1,63 +1,220 @@
 package ecs.systems;
 
+import ecs.archetypes.Archetype;
+import ecs.archetypes.EntityQuery;
+import ecs.components.Component;
 import ecs.components.HitboxComponent;
+import ecs.components.MissingComponentException;
+import ecs.components.PositionComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import level.elements.tile.Tile;
-import starter.Game;
 
-/** System to check for collisions between two entities */
+/**
+ * System to check for collisions between two entities
+ *
+ * <p>The hitboxes are sorted into a uniform grid with one cell per tile (broad phase). Only
+ * hitboxes that share a cell are checked for an intersection (narrow phase), so the costs grow with
+ * the number of hitboxes that are close to each other instead of the square of all hitboxes.
+ *
+ * <p>The grid only holds the cells that are used in the current update. They are stored in an open
+ * addressing hash table with primitive keys and are recycled for the next update.
+ */
 public class CollisionSystem extends System {
 
     private record CollisionKey(int a, int b) {}
 
     protected record CollisionData(HitboxComponent a, HitboxComponent b) {}
 
+    /** Cell of the broad phase grid, contains the indices of all hitboxes overlapping it. */
+    private static final class Cell {
+        private int x;
+        private int y;
+        // position in the hash table
+        private int slot;
+        private int[] hitboxes = new int[4];
+        private int size;
+
+        private void add(int hitbox) {
+            if (size == hitboxes.length) hitboxes = Arrays.copyOf(hitboxes, size * 2);
+            hitboxes[size++] = hitbox;
+        }
+    }
+
+    /** Edge length of a broad phase cell, one tile */
+    private static final float CELL_SIZE = 1f;
+
+    private final EntityQuery query = query(HitboxComponent.class);
     private Map<CollisionKey, CollisionData> collisions = new HashMap<>();
+    private Map<CollisionKey, CollisionData> nextCollisions = new HashMap<>();
+
+    // hash table of the used cells, the length is a power of two
+    private long[] cellKeys = new long[64];
+    private Cell[] cellTable = new Cell[64];
+    private final List<Cell> usedCells = new ArrayList<>();
+    private final List<Cell> freeCells = new ArrayList<>();
+    private final Set<HitboxComponent> active = Collections.newSetFromMap(new IdentityHashMap<>());
+    private HitboxComponent[] hitboxes = new HitboxComponent[64];
+    private int count;
 
     /** checks if there is a collision between two entities based on their hitbox */
     @Override
     public void update() {
-        Game.getEntities().stream()
-                .flatMap(
-                        a ->
-                                a
-                                        .getComponent(HitboxComponent.class)
-                                        .map(HitboxComponent.class::cast)
-                                        .stream())
-                .flatMap(
-                        a ->
-                                Game.getEntities().stream()
-                                        .filter(b -> a.getEntity().id < b.id)
-                                        .flatMap(
-                                                b ->
-                                                        b
-                                                                .getComponent(HitboxComponent.class)
-                                                                .map(HitboxComponent.class::cast)
-                                                                .stream())
-                                        .map(b -> buildData(a, b)))
-                .forEach(this::onEnterLeaveCheck);
-    }
-
-    private CollisionData buildData(HitboxComponent a, HitboxComponent b) {
-        return new CollisionData(a, b);
-    }
-
-    private void onEnterLeaveCheck(CollisionData cdata) {
-        CollisionKey key = new CollisionKey(cdata.a.getEntity().id, cdata.b.getEntity().id);
-
-        if (checkForCollision(cdata.a, cdata.b)) {
-            if (!collisions.containsKey(key)) {
-                collisions.put(key, cdata);
-                Tile.Direction d = checkDirectionOfCollision(cdata.a, cdata.b);
-                cdata.a.onEnter(cdata.b, d);
-                cdata.b.onEnter(cdata.a, inverse(d));
+        count = 0;
+        query.forEach(this::collectHitboxes);
+        fillGrid();
+        for (Cell cell : usedCells) checkCell(cell);
+        leaveRemainingCollisions();
+        clearGrid();
+    }
+
+    private void collectHitboxes(Archetype archetype) {
+        Component[] hcs = archetype.getColumn(HitboxComponent.class);
+        Component[] pcs = archetype.getColumn(PositionComponent.class);
+        if (pcs == null) throw missingPC();
+        for (int i = 0; i < archetype.size(); i++) {
+            HitboxComponent hitbox = (HitboxComponent) hcs[i];
+            hitbox.updateBounds((PositionComponent) pcs[i]);
+            if (count == hitboxes.length) hitboxes = Arrays.copyOf(hitboxes, count * 2);
+            hitboxes[count++] = hitbox;
+            active.add(hitbox);
+        }
+    }
+
+    private void fillGrid() {
+        for (int i = 0; i < count; i++) {
+            int minX = cellOf(hitboxes[i].getMinX());
+            int minY = cellOf(hitboxes[i].getMinY());
+            int maxX = cellOf(hitboxes[i].getMaxX());
+            int maxY = cellOf(hitboxes[i].getMaxY());
+            for (int x = minX; x <= maxX; x++) {
+                for (int y = minY; y <= maxY; y++) {
+                    cellAt(x, y).add(i);
+                }
             }
-        } else if (collisions.remove(key) != null) {
+        }
+    }
+
+    private Cell cellAt(int x, int y) {
+        long key = cellKey(x, y);
+        int mask = cellTable.length - 1;
+        int slot = slotOf(key, mask);
+        while (cellTable[slot] != null) {
+            if (cellKeys[slot] == key) return cellTable[slot];
+            slot = (slot + 1) & mask;
+        }
+        // keep the table at most half full
+        if (2 * (usedCells.size() + 1) > cellTable.length) {
+            growCellTable();
+            return cellAt(x, y);
+        }
+        Cell cell = freeCells.isEmpty() ? new Cell() : freeCells.remove(freeCells.size() - 1);
+        cell.x = x;
+        cell.y = y;
+        cell.slot = slot;
+        cellKeys[slot] = key;
+        cellTable[slot] = cell;
+        usedCells.add(cell);
+        return cell;
+    }
+
+    private void growCellTable() {
+        cellKeys = new long[cellKeys.length * 2];
+        cellTable = new Cell[cellTable.length * 2];
+        int mask = cellTable.length - 1;
+        for (Cell cell : usedCells) {
+            long key = cellKey(cell.x, cell.y);
+            int slot = slotOf(key, mask);
+            while (cellTable[slot] != null) slot = (slot + 1) & mask;
+            cell.slot = slot;
+            cellKeys[slot] = key;
+            cellTable[slot] = cell;
+        }
+    }
+
+    private static long cellKey(int x, int y) {
+        return ((long) x << 32) | (y & 0xffffffffL);
+    }
+
+    private static int slotOf(long key, int mask) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+
+    private void checkCell(Cell cell) {
+        for (int i = 0; i < cell.size; i++) {
+            for (int j = i + 1; j < cell.size; j++) {
+                HitboxComponent a = hitboxes[cell.hitboxes[i]];
+                HitboxComponent b = hitboxes[cell.hitboxes[j]];
+                if (a.getEntity().id > b.getEntity().id) {
+                    HitboxComponent tmp = a;
+                    a = b;
+                    b = tmp;
+                }
+                if (a.getEntity().id == b.getEntity().id) continue;
+                // a pair can share several cells, only the cell containing the bottom left corner
+                // of the intersection is responsible for it
+                if (a.intersects(b)
+                        && cellOf(Math.max(a.getMinX(), b.getMinX())) == cell.x
+                        && cellOf(Math.max(a.getMinY(), b.getMinY())) == cell.y) {
+                    onCollision(a, b);
+                }
+            }
+        }
+    }
+
+    private void onCollision(HitboxComponent a, HitboxComponent b) {
+        CollisionKey key = new CollisionKey(a.getEntity().id, b.getEntity().id);
+        CollisionData cdata = collisions.remove(key);
+        if (cdata == null) {
+            cdata = new CollisionData(a, b);
             Tile.Direction d = checkDirectionOfCollision(cdata.a, cdata.b);
-            cdata.a.onLeave(cdata.b, d);
-            cdata.b.onLeave(cdata.b, inverse(d));
+            cdata.a.onEnter(cdata.b, d);
+            cdata.b.onEnter(cdata.a, inverse(d));
+        }
+        nextCollisions.put(key, cdata);
+    }
+
+    /**
+     * All collisions of the last frame that were not found again have ended. Collisions with
+     * hitboxes that are no longer part of the game are dropped without calling onLeave.
+     */
+    private void leaveRemainingCollisions() {
+        for (CollisionData cdata : collisions.values()) {
+            if (active.contains(cdata.a) && active.contains(cdata.b)) {
+                Tile.Direction d = checkDirectionOfCollision(cdata.a, cdata.b);
+                cdata.a.onLeave(cdata.b, d);
+                cdata.b.onLeave(cdata.b, inverse(d));
+            }
+        }
+        collisions.clear();
+        Map<CollisionKey, CollisionData> tmp = collisions;
+        collisions = nextCollisions;
+        nextCollisions = tmp;
+    }
+
+    private void clearGrid() {
+        for (Cell cell : usedCells) {
+            cellTable[cell.slot] = null;
+            cell.size = 0;
+            freeCells.add(cell);
         }
+        usedCells.clear();
+        Arrays.fill(hitboxes, 0, count, null);
+        active.clear();
+    }
+
+    private static int cellOf(float coordinate) {
+        return (int) Math.floor(coordinate / CELL_SIZE);
+    }
+
+    private static MissingComponentException missingPC() {
+        return new MissingComponentException("PositionComponent");
     }
 
     /**
@@ -78,15 +235,15 @@ public class CollisionSystem extends System {
     /**
      * The Check if hitbox intersect
      *
+     * <p>Only reads the cached bounding boxes, which are refreshed at the start of {@link
+     * #update()}.
+     *
      * @param hitbox1
      * @param hitbox2
      * @return true if intersection exists otherwise false
      */
     protected boolean checkForCollision(HitboxComponent hitbox1, HitboxComponent hitbox2) {
-        return hitbox1.getBottomLeft().x < hitbox2.getTopRight().x
-                && hitbox1.getTopRight().x > hitbox2.getBottomLeft().x
-                && hitbox1.getBottomLeft().y < hitbox2.getTopRight().y
-                && hitbox1.getTopRight().y > hitbox2.getBottomLeft().y;
+        return hitbox1.intersects(hitbox2);
     }
 
     /**
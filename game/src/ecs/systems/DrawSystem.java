@@ -1,6 +1,9 @@
 package ecs.systems;
 
+import ecs.archetypes.Archetype;
+import ecs.archetypes.EntityQuery;
 import ecs.components.AnimationComponent;
+import ecs.components.Component;
 import ecs.components.MissingComponentException;
 import ecs.components.PositionComponent;
 import ecs.entities.Entity;
@@ -10,12 +13,17 @@ import graphic.PainterConfig;
 import java.util.HashMap;
 import java.util.Map;
 import starter.Game;
+import tools.Point;
 
 /** used to draw entities */
 public class DrawSystem extends System {
 
+    private final EntityQuery query = query(AnimationComponent.class);
+
     private Painter painter;
     private Map<String, PainterConfig> configs;
+    // the painter copies the position, so one point is reused for all entities
+    private final Point drawPosition = new Point(0, 0);
 
     private record DSData(Entity e, AnimationComponent ac, PositionComponent pc) {}
 
@@ -28,34 +36,40 @@ public class DrawSystem extends System {
         configs = new HashMap<>();
     }
 
-    /** draw entities at their position */
+    /** draw entities at their position, interpolated between the last two simulation ticks */
     public void update() {
-        Game.getEntities().stream()
-                .flatMap(e -> e.getComponent(AnimationComponent.class).stream())
-                .map(ac -> buildDataObject((AnimationComponent) ac))
-                .forEach(this::draw);
+        query.forEach(this::drawArchetype);
+        painter.flush();
+    }
+
+    private void drawArchetype(Archetype archetype) {
+        Component[] acs = archetype.getColumn(AnimationComponent.class);
+        Component[] pcs = archetype.getColumn(PositionComponent.class);
+        if (pcs == null) throw missingPC();
+        for (int i = 0; i < archetype.size(); i++) {
+            draw(
+                    new DSData(
+                            archetype.getEntity(i),
+                            (AnimationComponent) acs[i],
+                            (PositionComponent) pcs[i]));
+        }
     }
 
     private void draw(DSData dsd) {
         final Animation animation = dsd.ac.getCurrentAnimation();
-        String currentAnimationTexture = animation.getNextAnimationTexturePath();
+        String currentAnimationTexture = animation.getCurrentAnimationTexturePath();
         if (!configs.containsKey(currentAnimationTexture)) {
             configs.put(currentAnimationTexture, new PainterConfig(currentAnimationTexture));
         }
         painter.draw(
-                dsd.pc.getPosition(),
+                dsd.pc.getInterpolatedPosition(Game.getTickAlpha(), drawPosition),
                 currentAnimationTexture,
                 configs.get(currentAnimationTexture));
     }
 
-    private DSData buildDataObject(AnimationComponent ac) {
-        Entity e = ac.getEntity();
-
-        PositionComponent pc =
-                (PositionComponent)
-                        e.getComponent(PositionComponent.class).orElseThrow(DrawSystem::missingPC);
-
-        return new DSData(e, ac, pc);
+    @Override
+    public boolean isRenderSystem() {
+        return true;
     }
 
     @Override
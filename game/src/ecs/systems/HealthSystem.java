@@ -1,6 +1,9 @@
 package ecs.systems;
 
+import ecs.archetypes.Archetype;
+import ecs.archetypes.EntityQuery;
 import ecs.components.AnimationComponent;
+import ecs.components.Component;
 import ecs.components.HealthComponent;
 import ecs.components.MissingComponentException;
 import ecs.components.stats.StatsComponent;
@@ -16,42 +19,41 @@ import starter.Game;
  */
 public class HealthSystem extends System {
 
+    private final EntityQuery query = query(HealthComponent.class);
+
     // private record to hold all data during streaming
     private record HSData(Entity e, HealthComponent hc, AnimationComponent ac) {}
 
     @Override
     public void update() {
-        Game.getEntities().stream()
-                // Consider only entities that have a HealthComponent
-                .flatMap(e -> e.getComponent(HealthComponent.class).stream())
-                // Form triples (e, hc, ac)
-                .map(hc -> buildDataObject((HealthComponent) hc))
-                // Apply damage
-                .map(this::applyDamage)
-                // Filter all dead entities
-                .filter(hsd -> hsd.hc.isDead())
-                .filter(
-                        hsd -> {
-                            if (hsd.hc.getDeathAnimation() == null
-                                    || hsd.hc.getDeathAnimation().isLooping()) return true;
-                            if (!hsd.ac.getCurrentAnimation().equals(hsd.hc.getDeathAnimation())) {
-                                hsd.ac.setCurrentAnimation(hsd.hc.getDeathAnimation());
-                            }
-                            return hsd.ac.getCurrentAnimation().isFinished();
-                        })
-                // Remove all dead entities
-                .forEach(this::removeDeadEntities);
+        // Consider only entities that have a HealthComponent
+        query.forEach(this::updateArchetype);
     }
 
-    private HSData buildDataObject(HealthComponent hc) {
-        Entity e = hc.getEntity();
-
-        AnimationComponent ac =
-                (AnimationComponent)
-                        e.getComponent(AnimationComponent.class)
-                                .orElseThrow(HealthSystem::missingAC);
+    private void updateArchetype(Archetype archetype) {
+        Component[] hcs = archetype.getColumn(HealthComponent.class);
+        Component[] acs = archetype.getColumn(AnimationComponent.class);
+        if (acs == null) throw missingAC();
+        for (int i = 0; i < archetype.size(); i++) {
+            // Form triples (e, hc, ac) and apply damage
+            HSData hsd =
+                    applyDamage(
+                            new HSData(
+                                    archetype.getEntity(i),
+                                    (HealthComponent) hcs[i],
+                                    (AnimationComponent) acs[i]));
+            // Remove all dead entities
+            if (hsd.hc.isDead() && isDeathAnimationFinished(hsd)) removeDeadEntities(hsd);
+        }
+    }
 
-        return new HSData(e, hc, ac);
+    private boolean isDeathAnimationFinished(HSData hsd) {
+        if (hsd.hc.getDeathAnimation() == null || hsd.hc.getDeathAnimation().isLooping())
+            return true;
+        if (!hsd.ac.getCurrentAnimation().equals(hsd.hc.getDeathAnimation())) {
+            hsd.ac.setCurrentAnimation(hsd.hc.getDeathAnimation());
+        }
+        return hsd.ac.getCurrentAnimation().isFinished();
     }
 
     private HSData applyDamage(HSData hsd) {
@@ -2,24 +2,38 @@ package ecs.systems;
 
 import com.badlogic.gdx.Gdx;
 import configuration.KeyboardConfig;
+import ecs.archetypes.Archetype;
+import ecs.archetypes.EntityQuery;
+import ecs.components.Component;
 import ecs.components.MissingComponentException;
 import ecs.components.PlayableComponent;
 import ecs.components.VelocityComponent;
 import ecs.entities.Entity;
 import ecs.tools.interaction.InteractionTool;
-import starter.Game;
 
 /** Used to control the player */
 public class PlayerSystem extends System {
 
+    private final EntityQuery query = query(PlayableComponent.class);
+
     private record KSData(Entity e, PlayableComponent pc, VelocityComponent vc) {}
 
     @Override
     public void update() {
-        Game.getEntities().stream()
-                .flatMap(e -> e.getComponent(PlayableComponent.class).stream())
-                .map(pc -> buildDataObject((PlayableComponent) pc))
-                .forEach(this::checkKeystroke);
+        query.forEach(this::updateArchetype);
+    }
+
+    private void updateArchetype(Archetype archetype) {
+        Component[] pcs = archetype.getColumn(PlayableComponent.class);
+        Component[] vcs = archetype.getColumn(VelocityComponent.class);
+        if (vcs == null) throw missingVC();
+        for (int i = 0; i < archetype.size(); i++) {
+            checkKeystroke(
+                    new KSData(
+                            archetype.getEntity(i),
+                            (PlayableComponent) pcs[i],
+                            (VelocityComponent) vcs[i]));
+        }
     }
 
     private void checkKeystroke(KSData ksd) {
@@ -42,17 +56,6 @@ public class PlayerSystem extends System {
             ksd.pc.getSkillSlot2().ifPresent(skill -> skill.execute(ksd.e));
     }
 
-    private KSData buildDataObject(PlayableComponent pc) {
-        Entity e = pc.getEntity();
-
-        VelocityComponent vc =
-                (VelocityComponent)
-                        e.getComponent(VelocityComponent.class)
-                                .orElseThrow(PlayerSystem::missingVC);
-
-        return new KSData(e, pc, vc);
-    }
-
     private static MissingComponentException missingVC() {
         return new MissingComponentException("VelocityComponent");
     }
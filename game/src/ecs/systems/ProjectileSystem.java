@@ -1,5 +1,7 @@
 package ecs.systems;
 
+import ecs.archetypes.Archetype;
+import ecs.archetypes.EntityQuery;
 import ecs.components.*;
 import ecs.components.skill.ProjectileComponent;
 import ecs.entities.Entity;
@@ -8,6 +10,8 @@ import tools.Point;
 
 public class ProjectileSystem extends System {
 
+    private final EntityQuery query = query(ProjectileComponent.class);
+
     // private record to hold all data during streaming
     private record PSData(
             Entity e, ProjectileComponent prc, PositionComponent pc, VelocityComponent vc) {}
@@ -15,35 +19,29 @@ public class ProjectileSystem extends System {
     /** sets the velocity and removes entities that reached their endpoint */
     @Override
     public void update() {
-        Game.getEntities().stream()
-                // Consider only entities that have a ProjectileComponent
-                .flatMap(e -> e.getComponent(ProjectileComponent.class).stream())
-                .map(prc -> buildDataObject((ProjectileComponent) prc))
-                .map(this::setVelocity)
-                // Filter all entities that have reached their endpoint
-                .filter(
-                        psd ->
-                                hasReachedEndpoint(
-                                        psd.prc.getStartPosition(),
-                                        psd.prc.getGoalLocation(),
-                                        psd.pc.getPosition()))
-                // Remove all entities who reached their endpoint
-                .forEach(this::removeEntitiesOnEndpoint);
+        // Consider only entities that have a ProjectileComponent
+        query.forEach(this::updateArchetype);
     }
 
-    private PSData buildDataObject(ProjectileComponent prc) {
-        Entity e = prc.getEntity();
-
-        PositionComponent pc =
-                (PositionComponent)
-                        e.getComponent(PositionComponent.class)
-                                .orElseThrow(ProjectileSystem::missingAC);
-        VelocityComponent vc =
-                (VelocityComponent)
-                        e.getComponent(VelocityComponent.class)
-                                .orElseThrow(ProjectileSystem::missingAC);
-
-        return new PSData(e, prc, pc, vc);
+    private void updateArchetype(Archetype archetype) {
+        Component[] prcs = archetype.getColumn(ProjectileComponent.class);
+        Component[] pcs = archetype.getColumn(PositionComponent.class);
+        Component[] vcs = archetype.getColumn(VelocityComponent.class);
+        if (pcs == null || vcs == null) throw missingAC();
+        for (int i = 0; i < archetype.size(); i++) {
+            PSData psd =
+                    setVelocity(
+                            new PSData(
+                                    archetype.getEntity(i),
+                                    (ProjectileComponent) prcs[i],
+                                    (PositionComponent) pcs[i],
+                                    (VelocityComponent) vcs[i]));
+            // Remove all entities who reached their endpoint
+            if (hasReachedEndpoint(
+                    psd.prc.getStartPosition(), psd.prc.getGoalLocation(), psd.pc.getPosition())) {
+                removeEntitiesOnEndpoint(psd);
+            }
+        }
     }
 
     private PSData setVelocity(PSData data) {
@@ -1,16 +1,25 @@
 package ecs.systems;
 
+import ecs.archetypes.Archetype;
+import ecs.archetypes.EntityQuery;
+import ecs.components.Component;
 import ecs.components.skill.SkillComponent;
-import starter.Game;
 
 public class SkillSystem extends System {
 
+    private final EntityQuery query = query(SkillComponent.class);
+
     /** reduces the cool down for all skills */
     @Override
     public void update() {
-        Game.getEntities().stream()
-                // Consider only entities that have a SkillComponent
-                .flatMap(e -> e.getComponent(SkillComponent.class).stream())
-                .forEach(sc -> ((SkillComponent) sc).reduceAllCoolDowns());
+        // Consider only entities that have a SkillComponent
+        query.forEach(this::updateArchetype);
+    }
+
+    private void updateArchetype(Archetype archetype) {
+        Component[] scs = archetype.getColumn(SkillComponent.class);
+        for (int i = 0; i < archetype.size(); i++) {
+            ((SkillComponent) scs[i]).reduceAllCoolDowns();
+        }
     }
 }
@@ -1,5 +1,7 @@
 package ecs.systems;
 
+import ecs.archetypes.EntityQuery;
+import ecs.components.Component;
 import java.util.logging.Logger;
 import starter.Game;
 
@@ -8,15 +10,48 @@ public abstract class System {
 
     protected boolean run;
     public Logger systemLogger = Logger.getLogger(this.getClass().getName());
+    private EntityQuery entityQuery;
 
     public System() {
         Game.systems.add(this);
         run = true;
     }
 
-    /** Gets called every Frame */
+    /**
+     * Gets called every simulation tick, or every rendered frame if this is a render system (see
+     * {@link #isRenderSystem()})
+     */
     public abstract void update();
 
+    /**
+     * @return true if this system draws and has to be updated once per rendered frame, false if it
+     *     is part of the simulation and has to be updated once per simulation tick
+     */
+    public boolean isRenderSystem() {
+        return false;
+    }
+
+    /**
+     * Creates a query for the entities this system processes. The entities of the first query are
+     * counted in the statistics of the {@link controller.SystemController}.
+     *
+     * @param signature component classes an entity needs to be processed by this system
+     * @return query for all entities with the given components
+     */
+    @SafeVarargs
+    protected final EntityQuery query(Class<? extends Component>... signature) {
+        EntityQuery query = Game.getEntityStore().query(signature);
+        if (entityQuery == null) entityQuery = query;
+        return query;
+    }
+
+    /**
+     * @return number of entities this system processes, -1 if the system has no query
+     */
+    public int getEntityCount() {
+        return entityQuery == null ? -1 : entityQuery.size();
+    }
+
     /**
      * @return true if this system is running, false if it is in pause mode
      */
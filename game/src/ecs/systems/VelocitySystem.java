@@ -1,6 +1,9 @@
 package ecs.systems;
 
+import ecs.archetypes.Archetype;
+import ecs.archetypes.EntityQuery;
 import ecs.components.AnimationComponent;
+import ecs.components.Component;
 import ecs.components.HealthComponent;
 import ecs.components.MissingComponentException;
 import ecs.components.PositionComponent;
@@ -15,14 +18,45 @@ import tools.Point;
 /** MovementSystem is a system that updates the position of entities */
 public class VelocitySystem extends System {
 
+    private final EntityQuery query = query(VelocityComponent.class);
+
     private record VSData(Entity e, VelocityComponent vc, PositionComponent pc) {}
 
     /** Updates the position of all entities based on their velocity */
     public void update() {
-        Game.getEntities().stream()
-                .flatMap(e -> e.getComponent(VelocityComponent.class).stream())
-                .map(vc -> buildDataObject((VelocityComponent) vc))
-                .forEach(this::updatePosition);
+        query.forEach(this::updateArchetype);
+    }
+
+    private void updateArchetype(Archetype archetype) {
+        Component[] vcs = archetype.getColumn(VelocityComponent.class);
+        Component[] pcs = archetype.getColumn(PositionComponent.class);
+        if (pcs == null) throw missingPC();
+        for (int i = 0; i < archetype.size(); i++) {
+            updatePosition(
+                    new VSData(
+                            archetype.getEntity(i),
+                            (VelocityComponent) vcs[i],
+                            (PositionComponent) pcs[i]));
+        }
+    }
+
+    /**
+     * Pausing also ends the movement of the last tick, so paused entities are drawn at their
+     * position and not interpolated between their last two positions in every frame.
+     */
+    @Override
+    public void toggleRun() {
+        super.toggleRun();
+        if (!run) query.forEach(VelocitySystem::stopArchetype);
+    }
+
+    private static void stopArchetype(Archetype archetype) {
+        Component[] pcs = archetype.getColumn(PositionComponent.class);
+        if (pcs == null) throw missingPC();
+        for (int i = 0; i < archetype.size(); i++) {
+            PositionComponent pc = (PositionComponent) pcs[i];
+            pc.moveTo(pc.getPosition());
+        }
     }
 
     private VSData updatePosition(VSData vsd) {
@@ -30,32 +64,23 @@ public class VelocitySystem extends System {
         float newY = vsd.pc.getPosition().y + vsd.vc.getCurrentYVelocity();
         Point newPosition = new Point(newX, newY);
         if (Game.currentLevel.getTileAt(newPosition.toCoordinate()).isAccessible()) {
-            vsd.pc.setPosition(newPosition);
+            vsd.pc.moveTo(newPosition);
             movementAnimation(vsd.e);
+        } else {
+            // the entity stands still in this tick
+            vsd.pc.moveTo(vsd.pc.getPosition());
+            // remove projectiles that hit the wall or other non-accessible
+            // tiles
+            if (vsd.e.getComponent(ProjectileComponent.class).isPresent())
+                Game.removeEntity(vsd.e);
         }
 
-        // remove projectiles that hit the wall or other non-accessible
-        // tiles
-        else if (vsd.e.getComponent(ProjectileComponent.class).isPresent())
-            Game.removeEntity(vsd.e);
-
         vsd.vc.setCurrentYVelocity(0);
         vsd.vc.setCurrentXVelocity(0);
 
         return vsd;
     }
 
-    private VSData buildDataObject(VelocityComponent vc) {
-        Entity e = vc.getEntity();
-
-        PositionComponent pc =
-                (PositionComponent)
-                        e.getComponent(PositionComponent.class)
-                                .orElseThrow(VelocitySystem::missingPC);
-
-        return new VSData(e, vc, pc);
-    }
-
     private void movementAnimation(Entity entity) {
 
         AtomicBoolean isDead = new AtomicBoolean(false);
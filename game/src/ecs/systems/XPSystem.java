@@ -1,22 +1,28 @@
 package ecs.systems;
 
+import ecs.archetypes.Archetype;
+import ecs.archetypes.EntityQuery;
+import ecs.components.Component;
 import ecs.components.xp.XPComponent;
-import starter.Game;
 
 public class XPSystem extends System {
 
+    private final EntityQuery query = query(XPComponent.class);
+
     @Override
     public void update() {
-        Game.getEntities().stream()
-                .flatMap(e -> e.getComponent(XPComponent.class).stream())
-                .forEach(
-                        component -> {
-                            XPComponent comp = (XPComponent) component;
-                            long xpLeft;
-                            while ((xpLeft = comp.getXPToNextLevel()) <= 0) {
-                                this.performLevelUp(comp, (int) xpLeft);
-                            }
-                        });
+        query.forEach(this::updateArchetype);
+    }
+
+    private void updateArchetype(Archetype archetype) {
+        Component[] xpcs = archetype.getColumn(XPComponent.class);
+        for (int i = 0; i < archetype.size(); i++) {
+            XPComponent comp = (XPComponent) xpcs[i];
+            long xpLeft;
+            while ((xpLeft = comp.getXPToNextLevel()) <= 0) {
+                this.performLevelUp(comp, (int) xpLeft);
+            }
+        }
     }
 
     /**
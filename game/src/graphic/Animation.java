@@ -56,15 +56,25 @@ public class Animation {
      * @return The texture of the next animation step (draw this).
      */
     public String getNextAnimationTexturePath() {
-        if (isFinished()) {
-            return animationFrames.get(currentFrameIndex);
-        }
-        String stringToReturn = animationFrames.get(currentFrameIndex);
+        String stringToReturn = getCurrentAnimationTexturePath();
+        update();
+        return stringToReturn;
+    }
+
+    /**
+     * @return The texture of the current animation step, without updating the animation.
+     */
+    public String getCurrentAnimationTexturePath() {
+        return animationFrames.get(currentFrameIndex);
+    }
+
+    /** Counts one frame (simulation tick) and switches to the next texture if it is time to. */
+    public void update() {
+        if (isFinished()) return;
         frameTimeCounter = (frameTimeCounter + 1) % frameTime;
         if (frameTimeCounter == 0) {
             currentFrameIndex = (currentFrameIndex + 1) % frames;
         }
-        return stringToReturn;
     }
 
     /**
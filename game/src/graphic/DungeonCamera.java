@@ -2,7 +2,6 @@ package graphic;
 
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.math.Vector3;
-import com.badlogic.gdx.math.collision.BoundingBox;
 import ecs.components.PositionComponent;
 import tools.Point;
 
@@ -10,6 +9,11 @@ import tools.Point;
 public class DungeonCamera extends OrthographicCamera {
     private PositionComponent follows;
     private Point focusPoint;
+    // visible area of the last update
+    private float visibleMinX;
+    private float visibleMinY;
+    private float visibleMaxX;
+    private float visibleMaxY;
 
     /**
      * Creates a new camera.
@@ -38,6 +42,18 @@ public class DungeonCamera extends OrthographicCamera {
             position.set(focusPoint.x, focusPoint.y, 0);
         }
         super.update();
+        updateVisibleArea();
+    }
+
+    private void updateVisibleArea() {
+        visibleMinX = visibleMinY = Float.POSITIVE_INFINITY;
+        visibleMaxX = visibleMaxY = Float.NEGATIVE_INFINITY;
+        for (Vector3 corner : frustum.planePoints) {
+            visibleMinX = Math.min(visibleMinX, corner.x);
+            visibleMinY = Math.min(visibleMinY, corner.y);
+            visibleMaxX = Math.max(visibleMaxX, corner.x);
+            visibleMaxY = Math.max(visibleMaxY, corner.y);
+        }
     }
 
     /**
@@ -69,13 +85,39 @@ public class DungeonCamera extends OrthographicCamera {
     /**
      * Checks if point (x,y) is probably visible on screen. Points that are not visible should not
      * be rendered.
+     *
+     * <p>Does not allocate any objects, so it can be called for every sprite in every frame.
      */
     public boolean isPointInFrustum(float x, float y) {
         final float OFFSET = 1f;
-        BoundingBox bounds =
-                new BoundingBox(
-                        new Vector3(x - OFFSET, y - OFFSET, 0),
-                        new Vector3(x + OFFSET, y + OFFSET, 0));
-        return frustum.boundsInFrustum(bounds);
+        return frustum.boundsInFrustum(x, y, 0, OFFSET, OFFSET, 0);
+    }
+
+    /**
+     * @return smallest x value that was visible on screen at the last update
+     */
+    public float getVisibleMinX() {
+        return visibleMinX;
+    }
+
+    /**
+     * @return smallest y value that was visible on screen at the last update
+     */
+    public float getVisibleMinY() {
+        return visibleMinY;
+    }
+
+    /**
+     * @return biggest x value that was visible on screen at the last update
+     */
+    public float getVisibleMaxX() {
+        return visibleMaxX;
+    }
+
+    /**
+     * @return biggest y value that was visible on screen at the last update
+     */
+    public float getVisibleMaxY() {
+        return visibleMaxY;
     }
 }
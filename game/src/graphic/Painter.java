@@ -1,15 +1,55 @@
 package graphic;
 
-import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import graphic.textures.TextureMap;
+import java.util.Arrays;
 import tools.Point;
 
-/** Uses LibGDX to draw sprites on the various <code>SpriteBatch</code>es. */
+/**
+ * Uses LibGDX to draw sprites on the various <code>SpriteBatch</code>es.
+ *
+ * <p>Draw calls are queued and submitted in one <code>begin</code>/<code>end</code> block by {@link
+ * #flush()}. Every sprite is queued into a layer (see {@link #draw(Point, String, PainterConfig,
+ * int)}), higher layers are drawn above lower ones. Within a layer the sprites are sorted by
+ * texture, so the batch only has to switch the texture once per different texture. Sprites of one
+ * layer with the same texture keep their order, sprites with different textures do not. Sprites
+ * that have to be drawn above others of the same flush belong into a higher layer. Textures are
+ * resolved to regions of the texture atlas (see {@link TextureMap#getTextureRegion(String)}), so
+ * most sprites share the same texture.
+ *
+ * <p>Everything queued before a flush is drawn below everything queued after it. The game flushes
+ * twice per frame: after the level is drawn and after the entities are drawn (see {@link
+ * starter.Game#render(float)}). Sprites queued after the second flush, e.g. by a controller, are
+ * only drawn by the first flush of the next frame, below the entities of that frame.
+ *
+ * <p>Sprites that do not move, like the tiles of a level, can be recorded once into caches on the
+ * GPU (see {@link #beginCache()}) and then be drawn with one call per cache by {@link
+ * #drawCaches(int[], int)}.
+ */
 public class Painter {
+    /** Layer of the sprites queued without a layer. */
+    public static final int DEFAULT_LAYER = 0;
+    /** Highest layer. */
+    public static final int MAX_LAYER = 127;
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final long TEXTURE_MASK = 0xFFFFFF;
+
     private final SpriteBatch batch;
     private final DungeonCamera camera;
 
+    private TextureRegion[] regions = new TextureRegion[INITIAL_CAPACITY];
+    // x, y, width, height of each queued sprite
+    private float[] bounds = new float[INITIAL_CAPACITY * 4];
+    private int[] layers = new int[INITIAL_CAPACITY];
+    // layer in the highest bits, then the texture handle and the queue index in the lowest bits
+    private long[] order = new long[INITIAL_CAPACITY];
+    private int count = 0;
+    private SpriteCache spriteCache;
+    private int spriteCacheSize = 0;
+
     /**
      * Uses LibGDX to draw sprites on the various <code>SpriteBatch</code>es.
      *
@@ -20,20 +60,159 @@ public class Painter {
         this.camera = camera;
     }
 
+    /**
+     * Queues the texture to be drawn at the given position in the {@link #DEFAULT_LAYER} on the
+     * next {@link #flush()}.
+     *
+     * @param position where to draw the texture
+     * @param texturePath path to the texture
+     * @param config offset and scaling of the texture
+     */
     public void draw(Point position, String texturePath, PainterConfig config) {
+        draw(position, texturePath, config, DEFAULT_LAYER);
+    }
+
+    /**
+     * Queues the texture to be drawn at the given position in the given layer on the next {@link
+     * #flush()}.
+     *
+     * @param position where to draw the texture
+     * @param texturePath path to the texture
+     * @param config offset and scaling of the texture
+     * @param layer layer of the sprite, from 0 to {@link #MAX_LAYER}
+     * @throws IllegalArgumentException if the layer is out of range
+     */
+    public void draw(Point position, String texturePath, PainterConfig config, int layer) {
+        if (layer < 0 || layer > MAX_LAYER) {
+            throw new IllegalArgumentException("Layer " + layer + " is out of range.");
+        }
         if (camera.isPointInFrustum(position.x, position.y)) {
-            Sprite sprite = new Sprite(TextureMap.getInstance().getTexture(texturePath));
-            // set up scaling of textures
-            sprite.setSize(config.xScaling, config.yScaling);
-            // where to draw the sprite
-            sprite.setPosition(position.x + config.xOffset, position.y + config.yOffset);
-
-            // need to be called before drawing
-            batch.begin();
-            // draw sprite
-            sprite.draw(batch);
-            // need to be called after drawing
-            batch.end();
+            if (count == regions.length) grow();
+            regions[count] = TextureMap.getInstance().getTextureRegion(texturePath);
+            layers[count] = layer;
+            // where to draw the sprite and the scaling of the texture
+            bounds[count * 4] = position.x + config.xOffset;
+            bounds[count * 4 + 1] = position.y + config.yOffset;
+            bounds[count * 4 + 2] = config.xScaling;
+            bounds[count * 4 + 3] = config.yScaling;
+            count++;
         }
     }
+
+    /** Draws all queued sprites, sorted by their layer and texture, and clears the queue. */
+    public void flush() {
+        if (count == 0) return;
+        for (int i = 0; i < count; i++) {
+            long texture = regions[i].getTexture().getTextureObjectHandle() & TEXTURE_MASK;
+            order[i] = ((long) layers[i] << 56) | (texture << 32) | i;
+        }
+        // the queue index keeps the order of sprites with the same layer and texture
+        Arrays.sort(order, 0, count);
+
+        batch.begin();
+        for (int k = 0; k < count; k++) {
+            int i = (int) order[k];
+            batch.draw(
+                    regions[i],
+                    bounds[i * 4],
+                    bounds[i * 4 + 1],
+                    bounds[i * 4 + 2],
+                    bounds[i * 4 + 3]);
+        }
+        batch.end();
+
+        Arrays.fill(regions, 0, count, null);
+        count = 0;
+    }
+
+    /**
+     * Removes all caches and makes room for the given number of sprites, see {@link
+     * #beginCache()}.
+     *
+     * @param size number of sprites of all caches that are recorded next
+     */
+    public void clearCaches(int size) {
+        if (spriteCache == null || spriteCacheSize < size) {
+            if (spriteCache != null) spriteCache.dispose();
+            spriteCacheSize = Math.max(size, INITIAL_CAPACITY);
+            // without indices the size of the cache is not limited to 8191 sprites
+            spriteCache = new SpriteCache(spriteCacheSize, false);
+        } else {
+            spriteCache.clear();
+        }
+    }
+
+    /**
+     * Starts recording a new cache, the sprites are added with {@link #cache(Point, String,
+     * PainterConfig)} and the cache is finished by {@link #endCache()}.
+     */
+    public void beginCache() {
+        spriteCache.beginCache();
+    }
+
+    /**
+     * Starts recording the given cache again, replacing its sprites. The cache must not get more
+     * sprites than it was first recorded with.
+     *
+     * @param cacheId id of the cache, see {@link #endCache()}
+     */
+    public void beginCache(int cacheId) {
+        spriteCache.beginCache(cacheId);
+    }
+
+    /**
+     * Adds the texture to the cache that is recorded.
+     *
+     * @param position where to draw the texture
+     * @param texturePath path to the texture
+     * @param config offset and scaling of the texture
+     */
+    public void cache(Point position, String texturePath, PainterConfig config) {
+        spriteCache.add(
+                TextureMap.getInstance().getTextureRegion(texturePath),
+                position.x + config.xOffset,
+                position.y + config.yOffset,
+                config.xScaling,
+                config.yScaling);
+    }
+
+    /**
+     * Finishes the cache that is recorded.
+     *
+     * @return id of the cache, see {@link #drawCaches(int[], int)}
+     */
+    public int endCache() {
+        return spriteCache.endCache();
+    }
+
+    /**
+     * Draws the caches immediately. They end up below everything that is flushed afterwards.
+     *
+     * @param cacheIds ids of the caches to draw, see {@link #endCache()}
+     * @param count number of ids to draw from the start of the array
+     */
+    public void drawCaches(int[] cacheIds, int count) {
+        if (count == 0) return;
+        spriteCache.setProjectionMatrix(camera.combined);
+        spriteCache.begin();
+        for (int i = 0; i < count; i++) {
+            spriteCache.draw(cacheIds[i]);
+        }
+        spriteCache.end();
+    }
+
+    /** Releases the caches on the GPU. */
+    public void dispose() {
+        if (spriteCache != null) spriteCache.dispose();
+        spriteCache = null;
+        spriteCacheSize = 0;
+    }
+
+    private void grow() {
+        int capacity = regions.length * 2;
+        regions = Arrays.copyOf(regions, capacity);
+        layers = Arrays.copyOf(layers, capacity);
+        bounds = Arrays.copyOf(bounds, capacity * 4);
+        order = Arrays.copyOf(order, capacity);
+    }
 }
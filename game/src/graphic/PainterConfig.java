@@ -1,6 +1,6 @@
 package graphic;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import graphic.textures.TextureMap;
 
 /**
@@ -21,15 +21,15 @@ public class PainterConfig {
         this.yScaling = yScaling;
     }
 
-    private PainterConfig(float xOffset, float yOffset, float xScaling, Texture texture) {
+    private PainterConfig(float xOffset, float yOffset, float xScaling, TextureRegion texture) {
         this(
                 xOffset,
                 yOffset,
                 xScaling,
-                ((float) texture.getHeight() / (float) texture.getWidth()));
+                ((float) texture.getRegionHeight() / (float) texture.getRegionWidth()));
     }
 
-    private PainterConfig(Texture texture) {
+    private PainterConfig(TextureRegion texture) {
         this(-0.85f, -0.5f, 1, texture);
     }
 
@@ -40,7 +40,7 @@ public class PainterConfig {
      * @param texturePath path to the texture
      */
     public PainterConfig(String texturePath) {
-        this(TextureMap.getInstance().getTexture(texturePath));
+        this(TextureMap.getInstance().getTextureRegion(texturePath));
     }
 
     /**
@@ -0,0 +1,103 @@
+package graphic.hud;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import controller.ScreenController;
+import controller.SystemController;
+import controller.SystemStatistics;
+import ecs.systems.System;
+import java.util.Map;
+import tools.Constants;
+import tools.Point;
+
+/**
+ * Shows the timings of all systems (see {@link SystemController#getStatistics()}) in the top left
+ * corner of the screen.
+ *
+ * <p>The text is only built again every {@link #REFRESH_FRAMES} frames, so the overlay itself
+ * barely shows up in the timings.
+ */
+public class SystemStatisticsOverlay<T extends Actor> extends ScreenController<T> {
+    /** Number of drawn frames between two updates of the text. */
+    public static final int REFRESH_FRAMES = 15;
+
+    private static final float NANOS_PER_MILLI = 1_000_000f;
+
+    private final SystemController systems;
+    private final ScreenText text;
+    private boolean visible = false;
+    private int frames = 0;
+
+    /**
+     * Creates a new hidden overlay with a new Spritebatch
+     *
+     * @param systems systems to show the timings of
+     */
+    public SystemStatisticsOverlay(SystemController systems) {
+        this(new SpriteBatch(), systems);
+    }
+
+    /**
+     * Creates a new hidden overlay with a given Spritebatch
+     *
+     * @param batch the batch which should be used to draw with
+     * @param systems systems to show the timings of
+     */
+    public SystemStatisticsOverlay(SpriteBatch batch, SystemController systems) {
+        super(batch);
+        this.systems = systems;
+        text =
+                new ScreenText(
+                        "",
+                        new Point(4, Constants.WINDOW_HEIGHT - 4),
+                        1,
+                        new LabelStyleBuilder(FontBuilder.DEFAULT_FONT)
+                                .setFontcolor(Color.WHITE)
+                                .build());
+        add((T) text);
+        text.setVisible(false);
+    }
+
+    /** Toggle between shown and hidden */
+    public void toggle() {
+        visible = !visible;
+        text.setVisible(visible);
+        frames = 0;
+    }
+
+    @Override
+    public void update() {
+        if (visible && frames-- <= 0) {
+            frames = REFRESH_FRAMES;
+            text.setText(statisticsText());
+            text.pack();
+            text.setPosition(4, Constants.WINDOW_HEIGHT - 4 - text.getHeight());
+        }
+        super.update();
+    }
+
+    private String statisticsText() {
+        StringBuilder builder = new StringBuilder();
+        SystemStatistics tick = systems.getTickStatistics();
+        builder.append(
+                String.format(
+                        "tick  last %.2f ms  p50 %.2f ms  p99 %.2f ms  budget %.2f ms%n",
+                        tick.getLastNanos() / NANOS_PER_MILLI,
+                        tick.getP50Nanos() / NANOS_PER_MILLI,
+                        tick.getP99Nanos() / NANOS_PER_MILLI,
+                        Constants.TIME_STEP * 1000));
+        for (Map.Entry<System, SystemStatistics> entry : systems.getStatistics().entrySet()) {
+            SystemStatistics statistics = entry.getValue();
+            builder.append(
+                    String.format(
+                            "%s  p50 %.2f ms  p99 %.2f ms  entities %d  alloc %d B%n",
+                            entry.getKey().getClass().getSimpleName(),
+                            statistics.getP50Nanos() / NANOS_PER_MILLI,
+                            statistics.getP99Nanos() / NANOS_PER_MILLI,
+                            statistics.getLastEntityCount(),
+                            statistics.getLastAllocatedBytes()));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,111 @@
+package graphic.textures;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.PixmapPackerIO;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import java.io.IOException;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Packs the textures of the dungeon, the characters and the objects into a few atlas pages.
+ *
+ * <p>Drawing from one atlas page does not require the batch to switch the texture, so most frames
+ * can be drawn from one or two textures.
+ *
+ * <p>The pages are packed on the first start and cached in {@link #CACHE_DIRECTORY}. The name of
+ * the cache file contains a hash over the paths, sizes and modification dates of all packed
+ * textures, so changed assets are packed again automatically. The outdated atlas is deleted then.
+ */
+public final class TextureAtlasPacker {
+    /** Regular expression for all textures that are packed into the atlas. */
+    public static final String ATLAS_TEXTURES = "^(dungeon|character|objects|animation)/.*\\.png$";
+
+    private static final String CACHE_DIRECTORY = "build/atlas/";
+    // the atlas is saved as dungeon-<hash>.atlas, its pages as dungeon-<hash>_<index>.png
+    private static final String CACHE_PREFIX = "dungeon-";
+    private static final int PAGE_SIZE = 2048;
+    private static final int PADDING = 2;
+    private static final Logger LOGGER = Logger.getLogger(TextureAtlasPacker.class.getName());
+
+    private TextureAtlasPacker() {}
+
+    /**
+     * Loads the cached atlas for the given textures or packs a new one.
+     *
+     * @param textures the textures to pack, the key is the path used to draw the texture
+     * @return atlas with one region per texture, named like the path of the texture
+     */
+    public static TextureAtlas loadOrPack(Map<String, FileHandle> textures) {
+        FileHandle cache = cacheFile(Gdx.files.local(CACHE_DIRECTORY), textures);
+        if (cache.exists()) {
+            LOGGER.info("Loading cached texture atlas " + cache.path());
+            return new TextureAtlas(cache);
+        }
+
+        LOGGER.info("Packing " + textures.size() + " textures into a texture atlas.");
+        PixmapPacker packer = pack(textures);
+        save(cache, packer);
+        TextureAtlas atlas =
+                packer.generateTextureAtlas(
+                        Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest, false);
+        packer.dispose();
+        return atlas;
+    }
+
+    /**
+     * @param directory directory of the cached atlases
+     * @param textures the textures to pack
+     * @return the file the atlas of the textures is cached in, it only exists on a cache hit
+     */
+    static FileHandle cacheFile(FileHandle directory, Map<String, FileHandle> textures) {
+        return directory.child(CACHE_PREFIX + hash(textures) + ".atlas");
+    }
+
+    private static PixmapPacker pack(Map<String, FileHandle> textures) {
+        PixmapPacker packer =
+                new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, PADDING, false);
+        textures.forEach(
+                (path, file) -> {
+                    Pixmap pixmap = new Pixmap(file);
+                    packer.pack(path, pixmap);
+                    pixmap.dispose();
+                });
+        return packer;
+    }
+
+    /**
+     * Writes the atlas and its pages to the cache. The atlases cached for other textures are
+     * deleted before, they are never loaded again.
+     *
+     * @param cache the file of the atlas, see {@link #cacheFile(FileHandle, Map)}
+     * @param packer the packed textures
+     */
+    static void save(FileHandle cache, PixmapPacker packer) {
+        for (FileHandle file : cache.parent().list()) {
+            if (file.name().startsWith(CACHE_PREFIX)) {
+                LOGGER.info("Deleting stale texture atlas file " + file.path());
+                file.delete();
+            }
+        }
+        try {
+            new PixmapPackerIO().save(cache, packer);
+        } catch (IOException e) {
+            LOGGER.warning("Could not cache the texture atlas: " + e.getMessage());
+        }
+    }
+
+    private static String hash(Map<String, FileHandle> textures) {
+        int hash = 1;
+        for (Map.Entry<String, FileHandle> entry : textures.entrySet()) {
+            hash = 31 * hash + entry.getKey().hashCode();
+            hash = 31 * hash + Long.hashCode(entry.getValue().length());
+            hash = 31 * hash + Long.hashCode(entry.getValue().lastModified());
+        }
+        return Integer.toHexString(hash);
+    }
+}
@@ -12,6 +12,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -38,9 +39,11 @@ public class TextureHandler {
     private static TextureHandler INSTANCE;
 
     private final Map<String, Set<FileHandle>> pathMap = new LinkedHashMap<>();
+    private final FileHandle resourceRoot;
 
     private TextureHandler() throws IOException {
-        addAllAssets(getResourceRoot());
+        resourceRoot = getResourceRoot();
+        addAllAssets(resourceRoot);
     }
 
     /**
@@ -113,4 +116,26 @@ public class TextureHandler {
                 .flatMap(this::getTexturesForPath)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Searches for all assets whose path relative to the resource root matches with the given
+     * regular expression.
+     *
+     * <p>Example: ^dungeon/.*\.png$ will return all textures of the dungeon designs, e.g.
+     * dungeon/default/floor/floor_1.png.
+     *
+     * @param regex the regular expression
+     * @return the matching assets, sorted by their relative path
+     */
+    public Map<String, FileHandle> getAssets(String regex) {
+        Pattern pattern = Pattern.compile(regex);
+        String root = resourceRoot.path() + "/";
+        Map<String, FileHandle> assets = new TreeMap<>();
+        pathMap.values().stream()
+                .flatMap(Set::stream)
+                .filter(fh -> fh.path().startsWith(root))
+                .forEach(fh -> assets.put(fh.path().substring(root.length()), fh));
+        assets.keySet().removeIf(pattern.asPredicate().negate());
+        return assets;
+    }
 }
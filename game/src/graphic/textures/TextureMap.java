@@ -1,12 +1,16 @@
 package graphic.textures;
 
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import java.util.HashMap;
 import java.util.Map;
 
 public class TextureMap {
     private static final TextureMap INSTANCE = new TextureMap();
     private final Map<String, Texture> textureMap = new HashMap<>();
+    private final Map<String, TextureRegion> regionMap = new HashMap<>();
+    private TextureAtlas atlas;
 
     private TextureMap() {}
 
@@ -28,4 +32,31 @@ public class TextureMap {
 
         return textureMap.get(path);
     }
+
+    /**
+     * Searches the atlas for the region of the given texture and returns it. If the texture is not
+     * part of the atlas, a region covering the whole texture is returned.
+     *
+     * @param path to texture
+     * @return the TextureRegion to draw the texture with
+     */
+    public TextureRegion getTextureRegion(String path) {
+        TextureRegion region = regionMap.get(path);
+        if (region == null) {
+            if (atlas != null) region = atlas.findRegion(path);
+            if (region == null) region = new TextureRegion(getTexture(path));
+            regionMap.put(path, region);
+        }
+        return region;
+    }
+
+    /**
+     * Sets the atlas used to resolve the texture regions.
+     *
+     * @param atlas the atlas, its region names must be the texture paths
+     */
+    public void setAtlas(TextureAtlas atlas) {
+        this.atlas = atlas;
+        regionMap.clear();
+    }
 }
@@ -1,26 +1,48 @@
 package level;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import graphic.DungeonCamera;
 import graphic.Painter;
-import graphic.PainterConfig;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.logging.Level;
 import java.util.logging.Logger;
+import level.cache.LevelCache;
 import level.elements.ILevel;
-import level.elements.tile.Tile;
 import level.generator.IGenerator;
 import level.tools.DesignLabel;
-import level.tools.LevelElement;
 import level.tools.LevelSize;
 
-/** Manages the level. */
+/**
+ * Manages the level.
+ *
+ * <p>If prefetching is enabled (see {@link #setPrefetching(boolean)}), the next level is generated
+ * on a background thread as soon as a level was loaded, with the configuration of the loaded level
+ * or the one given to {@link #prefetchLevel(LevelSize, DesignLabel)}. The next call of {@link
+ * #loadLevel(LevelSize, DesignLabel)} with a matching configuration then only swaps the levels.
+ *
+ * <p>Levels loaded with a seed are not prefetched.
+ *
+ * <p>Generating a level does not need the OpenGL context, the textures of the new level are
+ * resolved on the main thread when the level is drawn the first time (see {@link TileLayerCache}).
+ */
 public class LevelAPI {
     private final SpriteBatch batch;
     private final Painter painter;
     private final IOnLevelLoader onLevelLoader;
+    private final DungeonCamera camera;
+    private final TileLayerCache tileLayer = new TileLayerCache();
     private IGenerator gen;
     private ILevel currentLevel;
+    private LevelCache levelCache;
     private final Logger levelAPI_logger = Logger.getLogger(this.getClass().getName());
+    private ExecutorService prefetcher;
+    private CompletableFuture<ILevel> nextLevel;
+    private LevelSize nextSize;
+    private DesignLabel nextDesign;
 
     /**
      * @param batch Batch on which to draw.
@@ -33,10 +55,28 @@ public class LevelAPI {
             Painter painter,
             IGenerator generator,
             IOnLevelLoader onLevelLoader) {
+        this(batch, painter, generator, onLevelLoader, null);
+    }
+
+    /**
+     * @param batch Batch on which to draw.
+     * @param painter Who draws?
+     * @param generator Level generator
+     * @param onLevelLoader Object that implements the onLevelLoad method.
+     * @param camera Only the tiles visible for this camera are drawn, <code>null</code> to draw all
+     *     tiles.
+     */
+    public LevelAPI(
+            SpriteBatch batch,
+            Painter painter,
+            IGenerator generator,
+            IOnLevelLoader onLevelLoader,
+            DungeonCamera camera) {
         this.gen = generator;
         this.batch = batch;
         this.painter = painter;
         this.onLevelLoader = onLevelLoader;
+        this.camera = camera;
     }
 
     /**
@@ -46,9 +86,29 @@ public class LevelAPI {
      * @param label The design that the level should have
      */
     public void loadLevel(LevelSize size, DesignLabel label) {
-        currentLevel = gen.getLevel(label, size);
-        onLevelLoader.onLevelLoad();
-        levelAPI_logger.info("A new level was loaded.");
+        load(size, label);
+    }
+
+    /**
+     * Load a new level, the same seed always loads the same level (see {@link
+     * IGenerator#getLevel(DesignLabel, LevelSize, long)}). A prefetched level is not used, but the
+     * level cache if one is set (see {@link #setLevelCache(LevelCache)}). No level is prefetched
+     * afterwards.
+     *
+     * @param size The size that the level should have
+     * @param label The design that the level should have
+     * @param seed The seed of the level
+     */
+    public void loadLevel(LevelSize size, DesignLabel label, long seed) {
+        discardPrefetchedLevel();
+        IGenerator generator = gen;
+        LevelCache cache = levelCache;
+        setLoadedLevel(
+                generate(
+                        () ->
+                                cache != null
+                                        ? cache.getLevel(generator, label, size, seed)
+                                        : generator.getLevel(label, size, seed)));
     }
 
     /**
@@ -57,7 +117,7 @@ public class LevelAPI {
      * @param designLabel The design that the level should have
      */
     public void loadLevel(DesignLabel designLabel) {
-        loadLevel(LevelSize.randomSize(), designLabel);
+        load(null, designLabel);
     }
 
     /**
@@ -66,12 +126,158 @@ public class LevelAPI {
      * @param size wanted size of the level
      */
     public void loadLevel(LevelSize size) {
-        loadLevel(size, DesignLabel.randomDesign());
+        load(size, null);
     }
 
     /** Load a new level with random size and random design. */
     public void loadLevel() {
-        loadLevel(LevelSize.randomSize(), DesignLabel.randomDesign());
+        load(null, null);
+    }
+
+    /**
+     * Enables or disables the generation of the next level in the background.
+     *
+     * <p>The generator is only used by one thread at a time, so it does not need to be thread-safe.
+     * While prefetching is enabled, all levels are generated on the background thread.
+     *
+     * @param prefetching true to generate the next level after a level was loaded
+     */
+    public void setPrefetching(boolean prefetching) {
+        if (prefetching && prefetcher == null) {
+            prefetcher =
+                    Executors.newSingleThreadExecutor(
+                            runnable -> {
+                                Thread thread = new Thread(runnable, "level-generator");
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+        } else if (!prefetching && prefetcher != null) {
+            awaitPrefetcher();
+            prefetcher.shutdown();
+            prefetcher = null;
+        }
+    }
+
+    /**
+     * @return true if the next level is generated in the background
+     */
+    public boolean isPrefetching() {
+        return prefetcher != null;
+    }
+
+    /**
+     * Starts generating the next level in the background, replaces the level that is prefetched.
+     * Use it if the next call of {@link #loadLevel(LevelSize, DesignLabel)} will ask for another
+     * configuration than the loaded level. Does nothing if prefetching is disabled.
+     *
+     * @param size size of the next level, <code>null</code> for a random size
+     * @param label design of the next level, <code>null</code> for a random design
+     */
+    public void prefetchLevel(LevelSize size, DesignLabel label) {
+        if (prefetcher == null) return;
+        discardPrefetchedLevel();
+        IGenerator generator = gen;
+        nextSize = sizeOrRandom(size);
+        nextDesign = designOrRandom(label);
+        LevelSize levelSize = nextSize;
+        DesignLabel design = nextDesign;
+        nextLevel =
+                CompletableFuture.supplyAsync(
+                        () -> generator.getLevel(design, levelSize), prefetcher);
+    }
+
+    /**
+     * Loads a level, uses the prefetched level if it matches the configuration, and prefetches the
+     * next level with the same configuration.
+     *
+     * @param size size of the level, <code>null</code> for a random size
+     * @param label design of the level, <code>null</code> for a random design
+     */
+    private void load(LevelSize size, DesignLabel label) {
+        ILevel level = takePrefetchedLevel(size, label);
+        if (level == null) {
+            IGenerator generator = gen;
+            DesignLabel design = designOrRandom(label);
+            LevelSize levelSize = sizeOrRandom(size);
+            level = generate(() -> generator.getLevel(design, levelSize));
+        } else {
+            levelAPI_logger.info("The prefetched level is used.");
+        }
+        setLoadedLevel(level);
+        prefetchLevel(size, label);
+    }
+
+    private void setLoadedLevel(ILevel level) {
+        currentLevel = level;
+        onLevelLoader.onLevelLoad();
+        levelAPI_logger.info("A new level was loaded.");
+    }
+
+    /**
+     * Generates a level. If prefetching is enabled, the level is generated on the background
+     * thread after a prefetched level that is still generated, so the generator is not used by two
+     * threads at once.
+     */
+    private ILevel generate(Supplier<ILevel> generation) {
+        if (prefetcher == null) return generation.get();
+        try {
+            return CompletableFuture.supplyAsync(generation, prefetcher).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    /**
+     * Takes the prefetched level if it matches the wanted configuration, waits for it if it is not
+     * generated yet.
+     *
+     * @param size wanted size, <code>null</code> if any size is fine
+     * @param label wanted design, <code>null</code> if any design is fine
+     * @return the prefetched level, <code>null</code> if there is none, it does not match or its
+     *     generation failed
+     */
+    private ILevel takePrefetchedLevel(LevelSize size, DesignLabel label) {
+        if (nextLevel == null) return null;
+        boolean matches =
+                (size == null || size == nextSize) && (label == null || label == nextDesign);
+        if (!matches) {
+            discardPrefetchedLevel();
+            return null;
+        }
+        CompletableFuture<ILevel> level = nextLevel;
+        nextLevel = null;
+        try {
+            return level.join();
+        } catch (CompletionException e) {
+            levelAPI_logger.log(
+                    Level.WARNING, "The level could not be generated in the background.", e);
+            return null;
+        }
+    }
+
+    /**
+     * Drops the prefetched level without waiting for it. If its generation did not start yet, it
+     * is skipped.
+     */
+    private void discardPrefetchedLevel() {
+        if (nextLevel == null) return;
+        nextLevel.cancel(false);
+        nextLevel = null;
+    }
+
+    /** Waits until the background thread does not use the generator anymore. */
+    private void awaitPrefetcher() {
+        discardPrefetchedLevel();
+        if (prefetcher != null) CompletableFuture.runAsync(() -> {}, prefetcher).join();
+    }
+
+    private static LevelSize sizeOrRandom(LevelSize size) {
+        return size != null ? size : LevelSize.randomSize();
+    }
+
+    private static DesignLabel designOrRandom(DesignLabel label) {
+        return label != null ? label : DesignLabel.randomDesign();
     }
 
     /** Draw level */
@@ -86,23 +292,9 @@ public class LevelAPI {
         return currentLevel;
     }
 
+    /** Draw the tile layer of the current level, see {@link TileLayerCache}. */
     protected void drawLevel() {
-        Map<String, PainterConfig> mapping = new HashMap<>();
-
-        Tile[][] layout = currentLevel.getLayout();
-        for (int y = 0; y < layout.length; y++) {
-            for (int x = 0; x < layout[0].length; x++) {
-                Tile t = layout[y][x];
-                if (t.getLevelElement() != LevelElement.SKIP) {
-                    String texturePath = t.getTexturePath();
-                    if (!mapping.containsKey(texturePath)) {
-                        mapping.put(texturePath, new PainterConfig(texturePath));
-                    }
-                    painter.draw(
-                            t.getCoordinate().toPoint(), texturePath, mapping.get(texturePath));
-                }
-            }
-        }
+        tileLayer.draw(currentLevel, painter, camera);
     }
 
     /**
@@ -118,9 +310,20 @@ public class LevelAPI {
      * @param generator new level generator
      */
     public void setGenerator(IGenerator generator) {
+        discardPrefetchedLevel();
         gen = generator;
     }
 
+    /**
+     * Sets the cache for levels loaded with a seed, see {@link #loadLevel(LevelSize, DesignLabel,
+     * long)}.
+     *
+     * @param levelCache the cache, <code>null</code> to always generate the levels
+     */
+    public void setLevelCache(LevelCache levelCache) {
+        this.levelCache = levelCache;
+    }
+
     /**
      * Sets the current level to the given level and calls onLevelLoad().
      *
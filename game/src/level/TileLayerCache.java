@@ -0,0 +1,229 @@
+package level;
+
+import graphic.DungeonCamera;
+import graphic.Painter;
+import graphic.PainterConfig;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import level.elements.ILevel;
+import level.elements.tile.Tile;
+import level.tools.LevelElement;
+
+/**
+ * Pre-baked tile layer of a level.
+ *
+ * <p>The sprites of all visible tiles are recorded once per level into caches of the {@link
+ * Painter}, which keeps them on the GPU (see {@link Painter#beginCache()}). Drawing the level then
+ * only draws the caches, without walking the layout or handing single tiles to the painter.
+ *
+ * <p>The sprites are grouped into chunks of {@link #CHUNK_SIZE} x {@link #CHUNK_SIZE} tiles, each
+ * chunk is one cache. If a camera is given, only the chunks in the visible area of the camera are
+ * drawn, so the costs do not grow with the size of the level.
+ *
+ * <p>If the layout of the level changed (see {@link ILevel#markLayoutChanged()}), only the chunks
+ * with tiles whose texture changed are recorded again. The whole layer is baked again if another
+ * level is drawn or the caches have no room left for a grown chunk. Baking removes all other caches
+ * of the painter.
+ */
+public class TileLayerCache {
+    /** Width and height of a chunk in tiles. */
+    public static final int CHUNK_SIZE = 16;
+    // tiles are drawn with an offset, so tiles next to the visible area can still be seen
+    private static final float MARGIN = 1f;
+    // cache id of chunks that were never recorded
+    private static final int EMPTY = -1;
+
+    private ILevel level;
+    private int layoutVersion;
+    private final Map<String, PainterConfig> mapping = new HashMap<>();
+    // recorded texture of every tile, null for tiles that are not drawn
+    private String[] textures = new String[0];
+    private int width = 0;
+    private int height = 0;
+    private int[] chunkCaches = new int[0];
+    // number of sprites a chunk was first recorded with, it can be recorded again with as many
+    private int[] chunkCapacities = new int[0];
+    private int[] chunkSprites = new int[0];
+    private boolean[] dirtyChunks = new boolean[0];
+    // ids of the caches to draw, reused every frame
+    private int[] visibleCaches = new int[0];
+    private int chunksX = 0;
+    private int chunksY = 0;
+    private int usedSprites = 0;
+    private int capacity = 0;
+
+    /**
+     * Draw the tile layer of the level, bakes the layer first if necessary.
+     *
+     * @param level level to draw
+     * @param painter painter to draw the tiles with
+     */
+    public void draw(ILevel level, Painter painter) {
+        draw(level, painter, null);
+    }
+
+    /**
+     * Draw the chunks of the tile layer that are visible for the camera, bakes the layer first if
+     * necessary.
+     *
+     * @param level level to draw
+     * @param painter painter to draw the tiles with
+     * @param camera camera to cull the chunks with, <code>null</code> to draw all chunks
+     */
+    public void draw(ILevel level, Painter painter, DungeonCamera camera) {
+        if (level != this.level) bake(level, painter);
+        else if (level.getLayoutVersion() != layoutVersion) update(painter);
+        if (camera == null) {
+            drawChunks(painter, 0, 0, chunksX - 1, chunksY - 1);
+        } else {
+            drawChunks(
+                    painter,
+                    chunkOf(camera.getVisibleMinX() - MARGIN),
+                    chunkOf(camera.getVisibleMinY() - MARGIN),
+                    chunkOf(camera.getVisibleMaxX() + MARGIN),
+                    chunkOf(camera.getVisibleMaxY() + MARGIN));
+        }
+    }
+
+    /** Discard the baked tile layer, it is rebuilt on the next draw. */
+    public void invalidate() {
+        level = null;
+    }
+
+    private static int chunkOf(float coordinate) {
+        return (int) Math.floor(coordinate / CHUNK_SIZE);
+    }
+
+    private static String textureOf(Tile tile) {
+        return tile.getLevelElement() == LevelElement.SKIP ? null : tile.getTexturePath();
+    }
+
+    private void drawChunks(Painter painter, int minX, int minY, int maxX, int maxY) {
+        minX = Math.max(minX, 0);
+        minY = Math.max(minY, 0);
+        maxX = Math.min(maxX, chunksX - 1);
+        maxY = Math.min(maxY, chunksY - 1);
+        int count = 0;
+        for (int cy = minY; cy <= maxY; cy++) {
+            for (int cx = minX; cx <= maxX; cx++) {
+                int chunk = cy * chunksX + cx;
+                if (chunkSprites[chunk] > 0) visibleCaches[count++] = chunkCaches[chunk];
+            }
+        }
+        painter.drawCaches(visibleCaches, count);
+    }
+
+    /**
+     * Records the sprites of all visible tiles, one cache per chunk.
+     *
+     * <p>The tile at <code>layout[y][x]</code> is expected to be at the coordinate (x, y), see
+     * {@link level.elements.ITileable#getTileAt(level.tools.Coordinate)}.
+     */
+    private void bake(ILevel level, Painter painter) {
+        this.level = level;
+        layoutVersion = level.getLayoutVersion();
+        Tile[][] layout = level.getLayout();
+        height = layout.length;
+        width = layout[0].length;
+        chunksX = (width + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        chunksY = (height + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        int chunks = chunksX * chunksY;
+        if (chunkCaches.length < chunks) {
+            chunkCaches = new int[chunks];
+            chunkCapacities = new int[chunks];
+            chunkSprites = new int[chunks];
+            dirtyChunks = new boolean[chunks];
+            visibleCaches = new int[chunks];
+        }
+        Arrays.fill(chunkCaches, 0, chunks, EMPTY);
+        Arrays.fill(chunkCapacities, 0, chunks, 0);
+        if (textures.length < width * height) textures = new String[width * height];
+
+        // tiles that are not drawn leave room for chunks that grow later
+        capacity = width * height;
+        usedSprites = 0;
+        painter.clearCaches(capacity);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) textures[y * width + x] = textureOf(layout[y][x]);
+        }
+        for (int cy = 0; cy < chunksY; cy++) {
+            for (int cx = 0; cx < chunksX; cx++) record(painter, layout, cx, cy);
+        }
+    }
+
+    // records the chunks with tiles whose texture changed since they were recorded
+    private void update(Painter painter) {
+        Tile[][] layout = level.getLayout();
+        if (layout.length != height || layout[0].length != width) {
+            bake(level, painter);
+            return;
+        }
+        layoutVersion = level.getLayoutVersion();
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                String texture = textureOf(layout[y][x]);
+                if (!Objects.equals(texture, textures[y * width + x])) {
+                    textures[y * width + x] = texture;
+                    dirtyChunks[(y / CHUNK_SIZE) * chunksX + x / CHUNK_SIZE] = true;
+                }
+            }
+        }
+        for (int cy = 0; cy < chunksY; cy++) {
+            for (int cx = 0; cx < chunksX; cx++) {
+                int chunk = cy * chunksX + cx;
+                if (!dirtyChunks[chunk]) continue;
+                dirtyChunks[chunk] = false;
+                if (!record(painter, layout, cx, cy)) {
+                    Arrays.fill(dirtyChunks, false);
+                    bake(level, painter);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Records the textures of the chunk into its cache, or into a new cache if the chunk grew.
+     *
+     * @return <code>false</code> if there is no room left for a new cache
+     */
+    private boolean record(Painter painter, Tile[][] layout, int cx, int cy) {
+        int chunk = cy * chunksX + cx;
+        int maxY = Math.min(height, (cy + 1) * CHUNK_SIZE);
+        int maxX = Math.min(width, (cx + 1) * CHUNK_SIZE);
+        int sprites = 0;
+        for (int y = cy * CHUNK_SIZE; y < maxY; y++) {
+            for (int x = cx * CHUNK_SIZE; x < maxX; x++) {
+                if (textures[y * width + x] != null) sprites++;
+            }
+        }
+        chunkSprites[chunk] = sprites;
+        if (sprites == 0) return true;
+
+        if (sprites <= chunkCapacities[chunk]) {
+            painter.beginCache(chunkCaches[chunk]);
+        } else if (usedSprites + sprites <= capacity) {
+            // the sprites of the old cache stay unused until the layer is baked again
+            painter.beginCache();
+            chunkCapacities[chunk] = sprites;
+            usedSprites += sprites;
+        } else {
+            return false;
+        }
+        for (int y = cy * CHUNK_SIZE; y < maxY; y++) {
+            for (int x = cx * CHUNK_SIZE; x < maxX; x++) {
+                String texturePath = textures[y * width + x];
+                if (texturePath != null) {
+                    painter.cache(
+                            layout[y][x].getCoordinate().toPoint(),
+                            texturePath,
+                            mapping.computeIfAbsent(texturePath, PainterConfig::new));
+                }
+            }
+        }
+        chunkCaches[chunk] = painter.endCache();
+        return true;
+    }
+}
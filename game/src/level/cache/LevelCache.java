@@ -0,0 +1,128 @@
+package level.cache;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import level.elements.ILevel;
+import level.generator.IGenerator;
+import level.tools.DesignLabel;
+import level.tools.LevelSize;
+
+/**
+ * Stores generated levels in a directory, so a level with the same generator, seed, size and design
+ * does not have to be generated again.
+ *
+ * <p>The levels are stored in the format of the {@link LevelSerializer}, one file per level. Files
+ * are memory-mapped for reading. Levels that can not be stored (see {@link
+ * LevelSerializer#isSupported(ILevel)}) are generated every time.
+ */
+public class LevelCache {
+    private static final String FILE_EXTENSION = ".lvl";
+
+    private final Logger cacheLogger = Logger.getLogger(this.getClass().getName());
+    private final Path directory;
+
+    /**
+     * @param directory directory to store the levels in, created if it does not exist
+     */
+    public LevelCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Loads the level from the cache, generates and stores it if it is not cached yet.
+     *
+     * @param generator generator of the level
+     * @param designLabel design of the level
+     * @param size size of the level
+     * @param seed seed of the level
+     * @return the level
+     */
+    public ILevel getLevel(
+            IGenerator generator, DesignLabel designLabel, LevelSize size, long seed) {
+        Path file = fileOf(generator, designLabel, size, seed);
+        Optional<ILevel> cached = load(file);
+        if (cached.isPresent()) return cached.get();
+        ILevel level = generator.getLevel(designLabel, size, seed);
+        store(file, level);
+        return level;
+    }
+
+    /**
+     * @param generator generator of the level
+     * @param designLabel design of the level
+     * @param size size of the level
+     * @param seed seed of the level
+     * @return the cached level, empty if it is not cached or could not be read
+     */
+    public Optional<ILevel> load(
+            IGenerator generator, DesignLabel designLabel, LevelSize size, long seed) {
+        return load(fileOf(generator, designLabel, size, seed));
+    }
+
+    /**
+     * Stores the level, must be called before the level is changed.
+     *
+     * @param generator generator of the level
+     * @param designLabel design of the level
+     * @param size size of the level
+     * @param seed seed of the level
+     * @param level level to store
+     */
+    public void store(
+            IGenerator generator,
+            DesignLabel designLabel,
+            LevelSize size,
+            long seed,
+            ILevel level) {
+        store(fileOf(generator, designLabel, size, seed), level);
+    }
+
+    private Path fileOf(IGenerator generator, DesignLabel designLabel, LevelSize size, long seed) {
+        String name =
+                generator.getName().replaceAll("[^A-Za-z0-9_-]", "_")
+                        + "-"
+                        + size
+                        + "-"
+                        + designLabel
+                        + "-"
+                        + Long.toHexString(seed)
+                        + FILE_EXTENSION;
+        return directory.resolve(name);
+    }
+
+    private Optional<ILevel> load(Path file) {
+        if (!Files.isRegularFile(file)) return Optional.empty();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return Optional.of(LevelSerializer.read(buffer));
+        } catch (IOException | IllegalArgumentException e) {
+            cacheLogger.log(Level.WARNING, "The cached level " + file + " could not be read.", e);
+            return Optional.empty();
+        }
+    }
+
+    private void store(Path file, ILevel level) {
+        if (!LevelSerializer.isSupported(level)) return;
+        try {
+            Files.createDirectories(directory);
+            // written to another file first, so no other thread or process reads half a level
+            Path temporary = Files.createTempFile(directory, "level", ".tmp");
+            Files.write(temporary, LevelSerializer.write(level));
+            Files.move(
+                    temporary,
+                    file,
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            cacheLogger.log(Level.WARNING, "The level " + file + " could not be cached.", e);
+        }
+    }
+}
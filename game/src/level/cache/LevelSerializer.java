@@ -0,0 +1,190 @@
+package level.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import level.elements.ILevel;
+import level.elements.TileLevel;
+import level.elements.tile.Tile;
+import level.elements.tile.TileFactory;
+import level.tools.Coordinate;
+import level.tools.DesignLabel;
+import level.tools.LevelElement;
+
+/**
+ * Compact binary format for a {@link TileLevel}.
+ *
+ * <p>The format stores the dimensions, the design, a palette of all texture paths and the tiles as
+ * runs of equal (element, texture) pairs, row by row. The start tile is stored as well, exit tiles
+ * are part of the tiles. Because the texture paths are stored, reading a level does not need the
+ * {@link level.tools.TileTextureFactory}.
+ *
+ * <p>Only plain {@link TileLevel}s are supported (see {@link #isSupported(ILevel)}): the doors of
+ * rooms are linked to other rooms and the level graph, which can not be stored with a single
+ * level.
+ */
+public final class LevelSerializer {
+    private static final int MAGIC = 0x444C564C; // "DLVL"
+    private static final int VERSION = 1;
+    private static final LevelElement[] ELEMENTS = LevelElement.values();
+
+    private LevelSerializer() {}
+
+    /**
+     * @param level level to check
+     * @return true if the level can be written with {@link #write(ILevel)}
+     */
+    public static boolean isSupported(ILevel level) {
+        return level != null && level.getClass() == TileLevel.class;
+    }
+
+    /**
+     * Writes the level in the binary format.
+     *
+     * @param level level to write
+     * @return the level in the binary format
+     * @throws IllegalArgumentException if the level is not supported, see {@link
+     *     #isSupported(ILevel)}
+     */
+    public static byte[] write(ILevel level) {
+        if (!isSupported(level))
+            throw new IllegalArgumentException(
+                    "Only TileLevels can be written, not " + level.getClass().getName());
+        Tile[][] layout = level.getLayout();
+        int height = layout.length;
+        int width = layout[0].length;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(width * height);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            writeString(out, layout[0][0].getDesignLabel().name());
+            out.writeInt(width);
+            out.writeInt(height);
+
+            Map<String, Integer> palette = new HashMap<>();
+            List<String> paths = new ArrayList<>();
+            int[] textures = new int[width * height];
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    textures[y * width + x] =
+                            palette.computeIfAbsent(
+                                    layout[y][x].getTexturePath(),
+                                    path -> {
+                                        paths.add(path);
+                                        return paths.size() - 1;
+                                    });
+                }
+            }
+            writeVarInt(out, paths.size());
+            for (String path : paths) writeString(out, path);
+
+            int i = 0;
+            while (i < textures.length) {
+                LevelElement element = elementAt(layout, width, i);
+                int texture = textures[i];
+                int run = 1;
+                while (i + run < textures.length
+                        && textures[i + run] == texture
+                        && elementAt(layout, width, i + run) == element) run++;
+                out.writeByte(element.ordinal());
+                writeVarInt(out, texture);
+                writeVarInt(out, run);
+                i += run;
+            }
+
+            Coordinate start = level.getStartTile().getCoordinate();
+            out.writeInt(start.x);
+            out.writeInt(start.y);
+        } catch (IOException e) {
+            // a ByteArrayOutputStream does not throw
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads a level written with {@link #write(ILevel)}.
+     *
+     * @param buffer buffer positioned at the start of the level
+     * @return the level
+     * @throws IllegalArgumentException if the buffer does not contain a level of this version
+     */
+    public static TileLevel read(ByteBuffer buffer) {
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getShort() != VERSION)
+                throw new IllegalArgumentException("Not a level of version " + VERSION);
+            DesignLabel design = DesignLabel.valueOf(readString(buffer));
+            int width = buffer.getInt();
+            int height = buffer.getInt();
+
+            String[] paths = new String[readVarInt(buffer)];
+            for (int i = 0; i < paths.length; i++) paths[i] = readString(buffer);
+
+            Tile[][] layout = new Tile[height][width];
+            int i = 0;
+            while (i < width * height) {
+                LevelElement element = ELEMENTS[buffer.get()];
+                String path = paths[readVarInt(buffer)];
+                int end = i + readVarInt(buffer);
+                for (; i < end; i++) {
+                    Coordinate coordinate = new Coordinate(i % width, i / width);
+                    layout[coordinate.y][coordinate.x] =
+                            TileFactory.createTile(path, coordinate, element, design);
+                }
+            }
+
+            TileLevel level = new TileLevel(layout);
+            int startX = buffer.getInt();
+            int startY = buffer.getInt();
+            level.setStartTile(layout[startY][startX]);
+            return level;
+        } catch (BufferUnderflowException
+                | IndexOutOfBoundsException
+                | NegativeArraySizeException
+                | NullPointerException
+                | ClassCastException e) {
+            throw new IllegalArgumentException("The level is corrupt", e);
+        }
+    }
+
+    private static LevelElement elementAt(Tile[][] layout, int width, int index) {
+        return layout[index / width][index % width].getLevelElement();
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IllegalArgumentException("The level is corrupt, varint too long");
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[readVarInt(buffer)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -1,6 +1,7 @@
 package level.elements;
 
 import java.util.List;
+import java.util.Random;
 import level.elements.tile.*;
 import level.tools.LevelElement;
 import level.tools.TileTextureFactory;
@@ -9,7 +10,16 @@ public interface ILevel extends ITileable {
 
     /** Mark a random tile as start */
     default void setRandomStart() {
-        setStartTile(getRandomTile(LevelElement.FLOOR));
+        setRandomStart(RANDOM);
+    }
+
+    /**
+     * Mark a random tile as start
+     *
+     * @param random Random to choose the tile with
+     */
+    default void setRandomStart(Random random) {
+        setStartTile(getRandomTile(LevelElement.FLOOR, random));
     }
 
     /**
@@ -21,13 +31,22 @@ public interface ILevel extends ITileable {
 
     /** Mark a random tile as end */
     default void setRandomEnd() {
+        setRandomEnd(RANDOM);
+    }
+
+    /**
+     * Mark a random tile as end
+     *
+     * @param random Random to choose the tile with
+     */
+    default void setRandomEnd(Random random) {
         List<FloorTile> floorTiles = getFloorTiles();
         if (floorTiles.size() <= 1) {
             // not enough Tiles for startTile and ExitTile
             return;
         }
         int startTileIndex = floorTiles.indexOf(getStartTile());
-        int index = RANDOM.nextInt(floorTiles.size() - 1);
+        int index = random.nextInt(floorTiles.size() - 1);
         changeTileElementType(
                 floorTiles.get(index < startTileIndex ? index : index + 1), LevelElement.EXIT);
     }
@@ -132,6 +151,22 @@ public interface ILevel extends ITileable {
 
     void addConnectionsToNeighbours(Tile checkTile);
 
+    /**
+     * Notify the level that the texture or the type of one of its tiles changed.
+     *
+     * <p>Caches of the layout, e.g. the pre-baked tile layer used to draw the level, are rebuilt
+     * the next time they are used.
+     */
+    void markLayoutChanged();
+
+    /**
+     * Returns the version of the layout, it changes every time {@link #markLayoutChanged()} is
+     * called.
+     *
+     * @return the current version of the layout
+     */
+    int getLayoutVersion();
+
     /**
      * F=Floor, W=Wall, E=Exit, S=Skip/Blank
      *
@@ -176,28 +211,40 @@ public interface ILevel extends ITileable {
                         tile.getDesignLabel());
         level.getLayout()[tile.getCoordinate().y][tile.getCoordinate().x] = newTile;
         level.addTile(newTile);
+        level.markLayoutChanged();
     }
 
     @Override
     default Tile getRandomTile(LevelElement elementType) {
+        return getRandomTile(elementType, RANDOM);
+    }
+
+    /**
+     * Get a random tile of the given type.
+     *
+     * @param elementType Type of the tile
+     * @param random Random to choose the tile with
+     * @return A random tile of the given type, <code>null</code> if there is no such tile
+     */
+    default Tile getRandomTile(LevelElement elementType, Random random) {
         return switch (elementType) {
             case SKIP -> getSkipTiles().size() > 0
-                    ? getSkipTiles().get(RANDOM.nextInt(getSkipTiles().size()))
+                    ? getSkipTiles().get(random.nextInt(getSkipTiles().size()))
                     : null;
             case FLOOR -> getFloorTiles().size() > 0
-                    ? getFloorTiles().get(RANDOM.nextInt(getFloorTiles().size()))
+                    ? getFloorTiles().get(random.nextInt(getFloorTiles().size()))
                     : null;
             case WALL -> getWallTiles().size() > 0
-                    ? getWallTiles().get(RANDOM.nextInt(getWallTiles().size()))
+                    ? getWallTiles().get(random.nextInt(getWallTiles().size()))
                     : null;
             case HOLE -> getHoleTiles().size() > 0
-                    ? getHoleTiles().get(RANDOM.nextInt(getHoleTiles().size()))
+                    ? getHoleTiles().get(random.nextInt(getHoleTiles().size()))
                     : null;
             case EXIT -> getExitTiles().size() > 0
-                    ? getExitTiles().get(RANDOM.nextInt(getExitTiles().size()))
+                    ? getExitTiles().get(random.nextInt(getExitTiles().size()))
                     : null;
             case DOOR -> getDoorTiles().size() > 0
-                    ? getDoorTiles().get(RANDOM.nextInt(getDoorTiles().size()))
+                    ? getDoorTiles().get(random.nextInt(getDoorTiles().size()))
                     : null;
         };
     }
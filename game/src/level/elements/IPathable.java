@@ -27,10 +27,26 @@ public interface IPathable extends IndexedGraph<Tile> {
      */
     default GraphPath<Tile> findPath(Tile start, Tile end) {
         GraphPath<Tile> path = new DefaultGraphPath<>();
-        new IndexedAStarPathFinder<>(this).searchNodePath(start, end, getTileHeuristic(), path);
+        findPath(start, end, path);
         return path;
     }
 
+    /**
+     * Starts the indexed A* pathfinding algorithm and stores the path in the given path.
+     *
+     * <p>Use this to reuse the path object instead of creating a new one for every search.
+     *
+     * @param start Start tile
+     * @param end End tile
+     * @param out Path to store the generated path in, it is cleared first
+     * @return true if a path was found, otherwise false and the path is empty
+     */
+    default boolean findPath(Tile start, Tile end, GraphPath<Tile> out) {
+        out.clear();
+        return new IndexedAStarPathFinder<>(this)
+                .searchNodePath(start, end, getTileHeuristic(), out);
+    }
+
     @Override
     default int getIndex(Tile tile) {
         return tile.getIndex();
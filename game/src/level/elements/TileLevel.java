@@ -1,8 +1,16 @@
 package level.elements;
 
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedGraph;
+import com.badlogic.gdx.utils.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
+import level.elements.astar.HierarchicalPathFinder;
+import level.elements.astar.PerThread;
 import level.elements.astar.TileConnection;
 import level.elements.astar.TileHeuristic;
 import level.elements.tile.*;
@@ -21,6 +29,39 @@ public class TileLevel implements ILevel {
     protected Tile startTile;
     protected int nodeCount = 0;
     protected Tile[][] layout;
+    protected int layoutVersion = 0;
+    // position of the tile of each layout cell in the list of its type, so it can be removed
+    // without searching the list
+    private int[] listPositions;
+    // accessible tiles by their index, null at the indices of removed tiles
+    private Tile[] tilesByIndex = new Tile[0];
+    // number of indices of removed tiles below nodeCount
+    private int removedIndices = 0;
+    // changed whenever the indices are compacted, the A* node records refer to the indices
+    private int indexVersion = 0;
+    // A* pathfinder of each thread, reused until the indices are compacted or their capacity grows
+    private final PerThread<CachedPathFinder> pathFinders = new PerThread<>();
+    // graph of the A* pathfinders, it reports the capacity of the indices as node count, so the
+    // node records are only allocated again when the capacity grows
+    private final IndexedGraph<Tile> searchGraph =
+            new IndexedGraph<>() {
+                @Override
+                public int getIndex(Tile tile) {
+                    return tile.getIndex();
+                }
+
+                @Override
+                public int getNodeCount() {
+                    return tilesByIndex.length;
+                }
+
+                @Override
+                public Array<Connection<Tile>> getConnections(Tile fromNode) {
+                    return TileLevel.this.getConnections(fromNode);
+                }
+            };
+    // used for long paths, created on the first long search
+    private HierarchicalPathFinder hierarchicalPathFinder;
 
     protected ArrayList<FloorTile> floorTiles = new ArrayList<>();
     protected ArrayList<WallTile> wallTiles = new ArrayList<>();
@@ -29,6 +70,12 @@ public class TileLevel implements ILevel {
     protected ArrayList<ExitTile> exitTiles = new ArrayList<>();
     protected ArrayList<SkipTile> skipTiles = new ArrayList<>();
 
+    private record CachedPathFinder(
+            IndexedAStarPathFinder<Tile> finder, int capacity, int indexVersion) {}
+
+    /** Paths between tiles that are further apart are searched with the hierarchical finder. */
+    private static final int HIERARCHICAL_DISTANCE = 2 * HierarchicalPathFinder.SECTOR_SIZE;
+
     private static final Coordinate CONNECTION_OFFSETS[] = {
         new Coordinate(0, 1), new Coordinate(0, -1), new Coordinate(1, 0), new Coordinate(-1, 0),
     };
@@ -38,10 +85,22 @@ public class TileLevel implements ILevel {
      * @param layout The layout of the level.
      */
     public TileLevel(Tile[][] layout) {
+        this(layout, RANDOM);
+    }
+
+    /**
+     * Create a new level
+     *
+     * @param layout The layout of the level.
+     * @param random Random to choose the start tile and, if there is none, the exit tile with
+     */
+    public TileLevel(Tile[][] layout, Random random) {
         this.layout = layout;
         putTilesInLists();
-        if (startTile == null) setRandomStart();
-        if (exitTiles.size() == 0) setRandomEnd();
+        if (startTile == null) setRandomStart(random);
+        if (exitTiles.size() == 0) setRandomEnd(random);
+        // placing the exit replaced a tile, a new level starts with the indices 0 to nodeCount - 1
+        if (removedIndices > 0) compactIndices();
     }
 
     /**
@@ -51,17 +110,51 @@ public class TileLevel implements ILevel {
      * @param designLabel The design the level should have
      */
     public TileLevel(LevelElement[][] layout, DesignLabel designLabel) {
-        this(convertLevelElementToTile(layout, designLabel));
+        this(layout, designLabel, RANDOM);
+    }
+
+    /**
+     * Create a new Level
+     *
+     * @param layout The layout of the Level
+     * @param designLabel The design the level should have
+     * @param random Random to choose the start tile and, if there is none, the exit tile with
+     */
+    public TileLevel(LevelElement[][] layout, DesignLabel designLabel, Random random) {
+        this(convertLevelElementToTile(layout, designLabel), random);
     }
 
     private void putTilesInLists() {
+        connectNeighbours();
+        for (int y = 0; y < layout.length; y++) {
+            for (int x = 0; x < layout[0].length; x++) {
+                registerTile(layout[y][x]);
+            }
+        }
+    }
+
+    /**
+     * Connects all neighbouring accessible tiles of the layout in one pass. Each pair of neighbours
+     * is visited once, from the lower or the left tile, so no tile has to look through its
+     * connections first.
+     */
+    private void connectNeighbours() {
         for (int y = 0; y < layout.length; y++) {
             for (int x = 0; x < layout[0].length; x++) {
-                addTile(layout[y][x]);
+                Tile tile = layout[y][x];
+                if (!tile.isAccessible()) continue;
+                if (y + 1 < layout.length) connect(tile, layout[y + 1][x]);
+                if (x + 1 < layout[0].length) connect(tile, layout[y][x + 1]);
             }
         }
     }
 
+    private static void connect(Tile tile, Tile neighbour) {
+        if (!neighbour.isAccessible()) return;
+        tile.addConnection(neighbour);
+        neighbour.addConnection(tile);
+    }
+
     /**
      * Converts the given LevelElement[][] in a corresponding Tile[][]
      *
@@ -86,6 +179,10 @@ public class TileLevel implements ILevel {
         return tileLayout;
     }
 
+    /**
+     * @return number of indices given to accessible tiles, including the indices of removed tiles
+     *     that were not compacted yet (see {@link #removeIndex(Tile)})
+     */
     @Override
     public int getNodeCount() {
         return nodeCount;
@@ -96,6 +193,65 @@ public class TileLevel implements ILevel {
         return tileHeuristic;
     }
 
+    /**
+     * Starts the indexed A* pathfinding algorithm and stores the path in the given path.
+     *
+     * <p>Each thread reuses its own pathfinder for all searches on this level, so a search does not
+     * allocate the node records again. The indices of the tiles do not change when other tiles are
+     * added or removed (see {@link #removeIndex(Tile)}), so the pathfinder is only created again
+     * when the indices are compacted or outgrow its node records. The pathfinders are kept by the
+     * level and not by the threads, so they are collected together with the level.
+     *
+     * <p>Long paths are searched with a {@link HierarchicalPathFinder}, so the search does not have
+     * to expand the tiles of the whole level. If it finds no path, there is none, so the search is
+     * not repeated with A*.
+     *
+     * @param start Start tile
+     * @param end End tile
+     * @param out Path to store the generated path in, it is cleared first
+     * @return true if a path was found, otherwise false and the path is empty
+     */
+    @Override
+    public boolean findPath(Tile start, Tile end, GraphPath<Tile> out) {
+        out.clear();
+        if (start != null && end != null && isLongPath(start, end)) {
+            synchronized (this) {
+                if (hierarchicalPathFinder == null) {
+                    hierarchicalPathFinder = new HierarchicalPathFinder(this);
+                }
+            }
+            return hierarchicalPathFinder.findPath(start, end, out);
+        }
+        CachedPathFinder cached = pathFinders.get();
+        if (cached == null
+                || cached.indexVersion() != indexVersion
+                || cached.capacity() < nodeCount) {
+            cached =
+                    new CachedPathFinder(
+                            new IndexedAStarPathFinder<>(searchGraph),
+                            tilesByIndex.length,
+                            indexVersion);
+            pathFinders.set(cached);
+        }
+        return cached.finder().searchNodePath(start, end, tileHeuristic, out);
+    }
+
+    private static boolean isLongPath(Tile start, Tile end) {
+        Coordinate a = start.getCoordinate();
+        Coordinate b = end.getCoordinate();
+        return Math.abs(a.x - b.x) + Math.abs(a.y - b.y) > HIERARCHICAL_DISTANCE;
+    }
+
+    @Override
+    public void changeTileElementType(Tile tile, LevelElement changeInto) {
+        ILevel.super.changeTileElementType(tile, changeInto);
+        synchronized (this) {
+            if (hierarchicalPathFinder != null) {
+                hierarchicalPathFinder.invalidate(tile.getCoordinate());
+            }
+        }
+    }
+
     /**
      * Check each tile around the tile, if it is accessible add it to the connectionList.
      *
@@ -107,11 +263,7 @@ public class TileLevel implements ILevel {
                     new Coordinate(
                             checkTile.getCoordinate().x + v.x, checkTile.getCoordinate().y + v.y);
             Tile t = getTileAt(c);
-            if (t != null
-                    && t.isAccessible()
-                    && !checkTile
-                            .getConnections()
-                            .contains(new TileConnection(checkTile, t), false)) {
+            if (t != null && t.isAccessible() && !checkTile.isConnectedTo(t)) {
                 checkTile.addConnection(t);
             }
         }
@@ -119,22 +271,22 @@ public class TileLevel implements ILevel {
 
     @Override
     public void addFloorTile(FloorTile tile) {
-        floorTiles.add(tile);
+        addToList(floorTiles, tile);
     }
 
     @Override
     public void addWallTile(WallTile tile) {
-        wallTiles.add(tile);
+        addToList(wallTiles, tile);
     }
 
     @Override
     public void addHoleTile(HoleTile tile) {
-        holeTiles.add(tile);
+        addToList(holeTiles, tile);
     }
 
     @Override
     public void addDoorTile(DoorTile tile) {
-        doorTiles.add(tile);
+        addToList(doorTiles, tile);
     }
 
     @Override
@@ -142,12 +294,12 @@ public class TileLevel implements ILevel {
         if (getEndTile() != null) {
             changeTileElementType(getEndTile(), LevelElement.FLOOR);
         }
-        exitTiles.add(tile);
+        addToList(exitTiles, tile);
     }
 
     @Override
     public void addSkipTile(SkipTile tile) {
-        skipTiles.add(tile);
+        addToList(skipTiles, tile);
     }
 
     @Override
@@ -183,33 +335,117 @@ public class TileLevel implements ILevel {
     @Override
     public void removeTile(Tile tile) {
         switch (tile.getLevelElement()) {
-            case SKIP -> skipTiles.remove(tile);
-            case FLOOR -> floorTiles.remove(tile);
-            case WALL -> wallTiles.remove(tile);
-            case HOLE -> holeTiles.remove(tile);
-            case DOOR -> doorTiles.remove(tile);
-            case EXIT -> exitTiles.remove(tile);
+            case SKIP -> removeFromList(skipTiles, tile);
+            case FLOOR -> removeFromList(floorTiles, tile);
+            case WALL -> removeFromList(wallTiles, tile);
+            case HOLE -> removeFromList(holeTiles, tile);
+            case DOOR -> removeFromList(doorTiles, tile);
+            case EXIT -> removeFromList(exitTiles, tile);
+        }
+
+        tile.getConnections().forEach(x -> x.getToNode().removeConnection(tile));
+        if (tile.isAccessible()) removeIndex(tile);
+    }
+
+    private <T extends Tile> void addToList(List<T> list, T tile) {
+        setListPosition(tile, list.size());
+        list.add(tile);
+    }
+
+    /**
+     * Removes the tile from its list by moving the last tile of the list to its position, so the
+     * list does not have to be searched or shifted. Tiles that are not part of the layout are
+     * searched in the list.
+     *
+     * @param list list of the type of the tile
+     * @param tile tile to remove
+     */
+    private <T extends Tile> void removeFromList(List<T> list, Tile tile) {
+        int position = getListPosition(tile);
+        if (position < 0 || position >= list.size() || list.get(position) != tile) {
+            list.remove(tile);
+            return;
+        }
+        T last = list.remove(list.size() - 1);
+        if (last != tile) {
+            list.set(position, last);
+            setListPosition(last, position);
         }
+    }
 
-        tile.getConnections()
-                .forEach(
-                        x ->
-                                x.getToNode()
-                                        .getConnections()
-                                        .removeValue(
-                                                new TileConnection(x.getToNode(), tile), false));
-        if (tile.isAccessible()) removeIndex(tile.getIndex());
+    private int cellOf(Tile tile) {
+        Coordinate c = tile.getCoordinate();
+        if (c.y < 0 || c.y >= layout.length || c.x < 0 || c.x >= layout[0].length) return -1;
+        return c.y * layout[0].length + c.x;
     }
 
-    private void removeIndex(int index) {
-        Arrays.stream(layout)
-                .flatMap(x -> Arrays.stream(x).filter(y -> y.getIndex() > index))
-                .forEach(x -> x.setIndex(x.getIndex() - 1));
-        nodeCount--;
+    private void setListPosition(Tile tile, int position) {
+        int cell = cellOf(tile);
+        if (cell < 0) return;
+        if (listPositions == null) listPositions = new int[layout.length * layout[0].length];
+        listPositions[cell] = position;
+    }
+
+    private int getListPosition(Tile tile) {
+        int cell = cellOf(tile);
+        return cell < 0 || listPositions == null ? -1 : listPositions[cell];
+    }
+
+    /**
+     * Frees the index of the tile. The index is not given to another tile, because the node record
+     * of an A* pathfinder keeps the tile it was created for, and the other tiles keep their
+     * indices. Once more indices were freed than accessible tiles are left, the indices are
+     * compacted, so the indices of a level whose tiles change often do not grow without bound.
+     *
+     * @param tile accessible tile to remove
+     */
+    private void removeIndex(Tile tile) {
+        int index = tile.getIndex();
+        if (index < 0 || index >= nodeCount || tilesByIndex[index] != tile) return;
+        tilesByIndex[index] = null;
+        removedIndices++;
+        if (removedIndices > nodeCount - removedIndices) compactIndices();
+    }
+
+    private void addIndex(Tile tile) {
+        if (nodeCount == tilesByIndex.length) {
+            tilesByIndex = Arrays.copyOf(tilesByIndex, Math.max(16, nodeCount * 2));
+        }
+        tilesByIndex[nodeCount] = tile;
+        tile.setIndex(nodeCount++);
+    }
+
+    // gives the accessible tiles the indices from 0 to their count - 1, keeps their order
+    private void compactIndices() {
+        int count = 0;
+        for (int index = 0; index < nodeCount; index++) {
+            Tile tile = tilesByIndex[index];
+            if (tile == null) continue;
+            tilesByIndex[count] = tile;
+            tile.setIndex(count++);
+        }
+        Arrays.fill(tilesByIndex, count, nodeCount, null);
+        nodeCount = count;
+        removedIndices = 0;
+        indexVersion++;
     }
 
     @Override
     public void addTile(Tile tile) {
+        if (tile.isAccessible()) {
+            addConnectionsToNeighbours(tile);
+            tile.getConnections()
+                    .forEach(
+                            x -> {
+                                if (!x.getToNode().isConnectedTo(tile))
+                                    x.getToNode().addConnection(tile);
+                            });
+        }
+        registerTile(tile);
+    }
+
+    // adds the tile to the lists and gives it an index, the connections are made by the caller
+    private void registerTile(Tile tile) {
         switch (tile.getLevelElement()) {
             case SKIP -> addSkipTile((SkipTile) tile);
             case FLOOR -> addFloorTile((FloorTile) tile);
@@ -218,18 +454,7 @@ public class TileLevel implements ILevel {
             case EXIT -> addExitTile((ExitTile) tile);
             case DOOR -> addDoorTile((DoorTile) tile);
         }
-        if (tile.isAccessible()) {
-            this.addConnectionsToNeighbours(tile);
-            tile.getConnections()
-                    .forEach(
-                            x -> {
-                                if (!x.getToNode()
-                                        .getConnections()
-                                        .contains(new TileConnection(x.getToNode(), tile), false))
-                                    x.getToNode().addConnection(tile);
-                            });
-            tile.setIndex(nodeCount++);
-        }
+        if (tile.isAccessible()) addIndex(tile);
         tile.setLevel(this);
     }
 
@@ -238,6 +463,16 @@ public class TileLevel implements ILevel {
         return layout;
     }
 
+    @Override
+    public void markLayoutChanged() {
+        layoutVersion++;
+    }
+
+    @Override
+    public int getLayoutVersion() {
+        return layoutVersion;
+    }
+
     @Override
     public Tile getStartTile() {
         return startTile;
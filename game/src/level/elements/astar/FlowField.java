@@ -0,0 +1,151 @@
+package level.elements.astar;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.utils.Array;
+import java.util.Arrays;
+import level.elements.ILevel;
+import level.elements.tile.Tile;
+
+/**
+ * Dijkstra map of a level towards one goal tile.
+ *
+ * <p>For every accessible tile the flow field stores the cost to reach the goal and the neighbour
+ * that is the next step on a shortest path to the goal. Many entities that move to the same goal
+ * (e.g. all monsters chasing the hero) can share one flow field and only have to read their next
+ * step, instead of running their own A* search.
+ *
+ * <p>The flow field is only calculated again if the goal, the level or the layout of the level
+ * changed, see {@link #update(ILevel, Tile)}.
+ */
+public class FlowField {
+    private ILevel level;
+    private Tile goal;
+    private int layoutVersion;
+    private int nodeCount;
+
+    // all arrays are indexed by the index of the tile
+    private Tile[] tiles = new Tile[0];
+    private Tile[] next = new Tile[0];
+    private float[] costs = new float[0];
+    private boolean[] queued = new boolean[0];
+    private int[] queue = new int[0];
+
+    /**
+     * Calculates the flow field towards the goal, if the goal, the level or the layout of the level
+     * changed since the last call.
+     *
+     * @param level level to calculate the flow field on
+     * @param goal goal tile
+     * @return true if the flow field was calculated again, otherwise false
+     */
+    public boolean update(ILevel level, Tile goal) {
+        if (level == this.level
+                && goal == this.goal
+                && level.getLayoutVersion() == layoutVersion
+                && level.getNodeCount() == nodeCount) return false;
+        this.level = level;
+        this.goal = goal;
+        layoutVersion = level.getLayoutVersion();
+        nodeCount = level.getNodeCount();
+        calculate();
+        return true;
+    }
+
+    /**
+     * @return the goal of the flow field
+     */
+    public Tile getGoal() {
+        return goal;
+    }
+
+    /**
+     * @param from tile to start from
+     * @return the next tile on a shortest path from the tile to the goal, <code>null</code> if the
+     *     tile is the goal or the goal can not be reached
+     */
+    public Tile getNextTile(Tile from) {
+        return isKnown(from) ? next[from.getIndex()] : null;
+    }
+
+    /**
+     * @param from tile to start from
+     * @return costs of a shortest path from the tile to the goal, {@link Float#POSITIVE_INFINITY}
+     *     if the goal can not be reached
+     */
+    public float getCost(Tile from) {
+        return isKnown(from) ? costs[from.getIndex()] : Float.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Follows the flow field from the tile to the goal and adds all tiles on the way to the path.
+     *
+     * <p>If the goal can not be reached, the path only contains the start tile.
+     *
+     * @param from tile to start from
+     * @param out path to add the tiles to, it is cleared first
+     */
+    public void fillPath(Tile from, GraphPath<Tile> out) {
+        out.clear();
+        if (from == null) return;
+        out.add(from);
+        for (Tile tile = getNextTile(from); tile != null; tile = getNextTile(tile)) {
+            out.add(tile);
+        }
+    }
+
+    private boolean isKnown(Tile tile) {
+        if (tile == null || !tile.isAccessible()) return false;
+        int index = tile.getIndex();
+        return index >= 0 && index < nodeCount && tiles[index] == tile;
+    }
+
+    private void calculate() {
+        if (tiles.length < nodeCount) {
+            tiles = new Tile[nodeCount];
+            next = new Tile[nodeCount];
+            costs = new float[nodeCount];
+            queued = new boolean[nodeCount];
+            queue = new int[nodeCount];
+        }
+        Arrays.fill(tiles, null);
+        Arrays.fill(next, null);
+        Arrays.fill(costs, Float.POSITIVE_INFINITY);
+        if (goal == null || !goal.isAccessible() || goal.getIndex() >= nodeCount) return;
+
+        // label correcting search, every tile is in the ring buffer at most once at a time
+        int head = 0;
+        int size = 0;
+        int goalIndex = goal.getIndex();
+        tiles[goalIndex] = goal;
+        costs[goalIndex] = 0;
+        queue[0] = goalIndex;
+        queued[goalIndex] = true;
+        size++;
+        while (size > 0) {
+            int index = queue[head];
+            head = (head + 1) % queue.length;
+            size--;
+            queued[index] = false;
+            Tile tile = tiles[index];
+            Array<Connection<Tile>> connections = tile.getConnections();
+            for (int i = 0; i < connections.size; i++) {
+                Connection<Tile> connection = connections.get(i);
+                Tile neighbour = connection.getToNode();
+                int neighbourIndex = neighbour.getIndex();
+                if (!neighbour.isAccessible() || neighbourIndex >= nodeCount) continue;
+                float cost = costs[index] + connection.getCost();
+                if (cost < costs[neighbourIndex]) {
+                    tiles[neighbourIndex] = neighbour;
+                    next[neighbourIndex] = tile;
+                    costs[neighbourIndex] = cost;
+                    if (!queued[neighbourIndex]) {
+                        queue[(head + size) % queue.length] = neighbourIndex;
+                        queued[neighbourIndex] = true;
+                        size++;
+                    }
+                }
+            }
+        }
+    }
+}
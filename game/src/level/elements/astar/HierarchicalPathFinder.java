@@ -0,0 +1,507 @@
+package level.elements.astar;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.utils.Array;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import level.elements.ILevel;
+import level.elements.tile.Tile;
+import level.tools.Coordinate;
+
+/**
+ * Hierarchical pathfinding (HPA*) for long paths in big levels.
+ *
+ * <p>The level is divided into sectors of {@link #SECTOR_SIZE} x {@link #SECTOR_SIZE} tiles. For
+ * every open part of the border between two sectors, one pair of tiles is used as entrance. The
+ * abstract graph consists of these entrances, connected across the border and, inside a sector,
+ * to every other entrance that can be reached without leaving the sector.
+ *
+ * <p>A search first finds a path on the small abstract graph and then refines every step of the
+ * abstract path with a search inside one sector. The found paths are close to, but not always
+ * exactly, the shortest paths.
+ *
+ * <p>Every entrance stands for a whole open part of a border, so the abstract graph has a path
+ * exactly if the level has one. If no abstract path is found, the end tile is not reachable.
+ *
+ * <p>Changes of the layout only rebuild the affected sectors, see {@link #invalidate(Coordinate)}.
+ * The sectors are rebuilt under the write lock before the next search. The searches hold the read
+ * lock, so they run in parallel but never while the abstract graph changes. Each thread reuses its
+ * own search state, so a search does not allocate new objects.
+ */
+public class HierarchicalPathFinder {
+    /** Width and height of a sector in tiles. */
+    public static final int SECTOR_SIZE = 16;
+
+    private static final int SECTOR_TILES = SECTOR_SIZE * SECTOR_SIZE;
+    // ids of the start and the end of a search, the nodes of the abstract graph start at 2
+    private static final int START = 0;
+    private static final int END = 1;
+
+    private final ILevel level;
+    private final int sectorsX;
+    private final int sectorsY;
+    private final List<List<Node>> sectorNodes = new ArrayList<>();
+    // entrances of each border, the east border of sector s has the id 2s, the north border 2s+1
+    private final Map<Integer, List<Node>> borderNodes = new HashMap<>();
+    private final Set<Integer> dirtySectors = new LinkedHashSet<>();
+    // nodes of the abstract graph by their id, null for unused ids
+    private final List<Node> nodes = new ArrayList<>(Arrays.asList(null, null));
+    private final Deque<Integer> freeIds = new ArrayDeque<>();
+    private final PerThread<SearchState> searchStates = new PerThread<>();
+    // searches hold the read lock, changes of the abstract graph the write lock
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Create the hierarchy for the level. The abstract graph is built on the first search.
+     *
+     * @param level level to search paths in
+     */
+    public HierarchicalPathFinder(ILevel level) {
+        this.level = level;
+        Tile[][] layout = level.getLayout();
+        sectorsX = (layout[0].length + SECTOR_SIZE - 1) / SECTOR_SIZE;
+        sectorsY = (layout.length + SECTOR_SIZE - 1) / SECTOR_SIZE;
+        for (int sector = 0; sector < sectorsX * sectorsY; sector++) {
+            sectorNodes.add(new ArrayList<>());
+            dirtySectors.add(sector);
+        }
+    }
+
+    /**
+     * Mark the sector of the coordinate as changed. The sector is rebuilt before the next search.
+     *
+     * @param coordinate coordinate of the changed tile
+     */
+    public void invalidate(Coordinate coordinate) {
+        if (coordinate.x < 0 || coordinate.y < 0) return;
+        int sx = coordinate.x / SECTOR_SIZE;
+        int sy = coordinate.y / SECTOR_SIZE;
+        if (sx >= sectorsX || sy >= sectorsY) return;
+        lock.writeLock().lock();
+        try {
+            dirtySectors.add(sy * sectorsX + sx);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Searches a path on the abstract graph and refines it to a path of tiles.
+     *
+     * @param start Start tile
+     * @param end End tile
+     * @param out Path to store the generated path in, it is cleared first
+     * @return true if a path was found, otherwise false and the path is empty. If both tiles are
+     *     accessible, false means that the end tile can not be reached from the start tile.
+     */
+    public boolean findPath(Tile start, Tile end, GraphPath<Tile> out) {
+        out.clear();
+        if (start == null || end == null || !start.isAccessible() || !end.isAccessible()) {
+            return false;
+        }
+        SearchState state = searchStates.get();
+        if (state == null) {
+            state = new SearchState();
+            searchStates.set(state);
+        }
+        lock.readLock().lock();
+        try {
+            if (!dirtySectors.isEmpty()) {
+                lock.readLock().unlock();
+                lock.writeLock().lock();
+                try {
+                    rebuildDirtySectors(state);
+                } finally {
+                    // downgrade, no other thread can change the graph before the search
+                    lock.readLock().lock();
+                    lock.writeLock().unlock();
+                }
+            }
+            state.ensureCapacity(nodes.size());
+            return search(state, start, end, out);
+        } finally {
+            lock.readLock().unlock();
+            // the state outlives the search, it must not keep the tiles of the search alive
+            state.start = null;
+            state.end = null;
+            state.refinement.clear();
+        }
+    }
+
+    private boolean search(SearchState state, Tile start, Tile end, GraphPath<Tile> out) {
+        state.start = start;
+        state.end = end;
+        state.startSector = sectorOf(start.getCoordinate());
+        state.endSector = sectorOf(end.getCoordinate());
+        // costs from the start tile to the tiles of its sector, and from the end tile
+        localSearch(state, start, state.startSector, state.startCosts);
+        localSearch(state, end, state.endSector, state.endCosts);
+        int length = searchAbstractPath(state);
+        if (length == 0) return false;
+
+        out.add(start);
+        int[] path = state.path;
+        for (int i = length - 2; i >= 0; i--) {
+            int from = path[i + 1];
+            int to = path[i];
+            Tile toTile = tileOf(state, to);
+            if (sectorOf(state, from) != sectorOf(state, to)) {
+                // entrances of a border are neighbours
+                out.add(toTile);
+            } else if (tileOf(state, from) != toTile) {
+                refine(state, tileOf(state, from), toTile, sectorOf(state, from), out);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A* search from {@link #START} to {@link #END} on the abstract graph.
+     *
+     * @return number of nodes of the path, stored from the end to the start in {@link
+     *     SearchState#path}, or 0 if there is no path
+     */
+    private int searchAbstractPath(SearchState state) {
+        state.searchId++;
+        state.heapSize = 0;
+        reach(state, START, -1, 0);
+        while (state.heapSize > 0) {
+            int current = state.poll();
+            if (state.closed[current] == state.searchId) continue;
+            state.closed[current] = state.searchId;
+            if (current == END) {
+                int length = 0;
+                for (int id = END; id != -1; id = state.parents[id]) state.path[length++] = id;
+                return length;
+            }
+            if (current == START) {
+                for (Node node : sectorNodes.get(state.startSector)) {
+                    relax(state, current, node.id, state.startCosts[localIndex(node.tile)]);
+                }
+                if (state.startSector == state.endSector) {
+                    relax(state, current, END, state.startCosts[localIndex(state.end)]);
+                }
+            } else {
+                Node node = nodes.get(current);
+                for (Edge edge : node.edges) relax(state, current, edge.to.id, edge.cost);
+                if (node.sector == state.endSector) {
+                    relax(state, current, END, state.endCosts[localIndex(node.tile)]);
+                }
+            }
+        }
+        return 0;
+    }
+
+    private void relax(SearchState state, int current, int to, float cost) {
+        if (cost == Float.POSITIVE_INFINITY) return;
+        float costSoFar = state.costs[current] + cost;
+        if (state.reached[to] == state.searchId
+                && (state.closed[to] == state.searchId || state.costs[to] <= costSoFar)) {
+            return;
+        }
+        // an old entry of the node stays in the queue and is skipped, because it is closed
+        reach(state, to, current, costSoFar);
+    }
+
+    private void reach(SearchState state, int id, int parent, float costSoFar) {
+        state.reached[id] = state.searchId;
+        state.costs[id] = costSoFar;
+        state.parents[id] = parent;
+        Coordinate a = tileOf(state, id).getCoordinate();
+        Coordinate b = state.end.getCoordinate();
+        state.push(id, costSoFar + Math.abs(a.x - b.x) + Math.abs(a.y - b.y));
+    }
+
+    private Tile tileOf(SearchState state, int id) {
+        if (id == START) return state.start;
+        if (id == END) return state.end;
+        return nodes.get(id).tile;
+    }
+
+    private int sectorOf(SearchState state, int id) {
+        if (id == START) return state.startSector;
+        if (id == END) return state.endSector;
+        return nodes.get(id).sector;
+    }
+
+    private void refine(SearchState state, Tile from, Tile to, int sector, GraphPath<Tile> out) {
+        localSearch(state, from, sector, state.localCosts);
+        List<Tile> refinement = state.refinement;
+        refinement.clear();
+        int x0 = (sector % sectorsX) * SECTOR_SIZE;
+        int y0 = (sector / sectorsX) * SECTOR_SIZE;
+        Tile[][] layout = level.getLayout();
+        int start = localIndex(from);
+        for (int i = localIndex(to); i != start; i = state.localParents[i]) {
+            refinement.add(layout[y0 + i / SECTOR_SIZE][x0 + i % SECTOR_SIZE]);
+        }
+        for (int i = refinement.size() - 1; i >= 0; i--) out.add(refinement.get(i));
+    }
+
+    /**
+     * Label correcting search from the tile to all tiles of the sector, without leaving the sector.
+     * The costs are stored in the given array, the parents in {@link SearchState#localParents}.
+     */
+    private void localSearch(SearchState state, Tile from, int sector, float[] costs) {
+        int[] parents = state.localParents;
+        int[] queue = state.localQueue;
+        boolean[] queued = state.localQueued;
+        Arrays.fill(costs, Float.POSITIVE_INFINITY);
+        Arrays.fill(parents, -1);
+        int x0 = (sector % sectorsX) * SECTOR_SIZE;
+        int y0 = (sector / sectorsX) * SECTOR_SIZE;
+        Tile[][] layout = level.getLayout();
+
+        int head = 0;
+        int size = 0;
+        int startIndex = localIndex(from);
+        costs[startIndex] = 0;
+        queue[0] = startIndex;
+        queued[startIndex] = true;
+        size++;
+        while (size > 0) {
+            int index = queue[head];
+            head = (head + 1) % SECTOR_TILES;
+            size--;
+            queued[index] = false;
+            Tile tile = layout[y0 + index / SECTOR_SIZE][x0 + index % SECTOR_SIZE];
+            Array<Connection<Tile>> connections = tile.getConnections();
+            for (int i = 0; i < connections.size; i++) {
+                Connection<Tile> connection = connections.get(i);
+                Coordinate c = connection.getToNode().getCoordinate();
+                if (c.x < x0 || c.x >= x0 + SECTOR_SIZE || c.y < y0 || c.y >= y0 + SECTOR_SIZE) {
+                    continue;
+                }
+                int neighbour = localIndex(c);
+                float cost = costs[index] + connection.getCost();
+                if (cost < costs[neighbour]) {
+                    costs[neighbour] = cost;
+                    parents[neighbour] = index;
+                    if (!queued[neighbour]) {
+                        queue[(head + size) % SECTOR_TILES] = neighbour;
+                        queued[neighbour] = true;
+                        size++;
+                    }
+                }
+            }
+        }
+    }
+
+    private void rebuildDirtySectors(SearchState state) {
+        if (dirtySectors.isEmpty()) return;
+        Set<Integer> borders = new LinkedHashSet<>();
+        Set<Integer> sectors = new LinkedHashSet<>();
+        for (int sector : dirtySectors) {
+            int sx = sector % sectorsX;
+            int sy = sector / sectorsX;
+            sectors.add(sector);
+            if (sx + 1 < sectorsX) {
+                borders.add(2 * sector);
+                sectors.add(sector + 1);
+            }
+            if (sy + 1 < sectorsY) {
+                borders.add(2 * sector + 1);
+                sectors.add(sector + sectorsX);
+            }
+            if (sx > 0) {
+                borders.add(2 * (sector - 1));
+                sectors.add(sector - 1);
+            }
+            if (sy > 0) {
+                borders.add(2 * (sector - sectorsX) + 1);
+                sectors.add(sector - sectorsX);
+            }
+        }
+        dirtySectors.clear();
+        borders.forEach(this::rebuildBorder);
+        sectors.forEach(sector -> connectSector(state, sector));
+    }
+
+    private void rebuildBorder(int border) {
+        List<Node> old = borderNodes.remove(border);
+        if (old != null) old.forEach(this::removeNode);
+
+        int sector = border / 2;
+        boolean east = border % 2 == 0;
+        int neighbourSector = east ? sector + 1 : sector + sectorsX;
+        Tile[][] layout = level.getLayout();
+        int x0 = (sector % sectorsX) * SECTOR_SIZE;
+        int y0 = (sector / sectorsX) * SECTOR_SIZE;
+        int length =
+                east
+                        ? Math.min(SECTOR_SIZE, layout.length - y0)
+                        : Math.min(SECTOR_SIZE, layout[0].length - x0);
+
+        List<Node> entrances = new ArrayList<>();
+        int runStart = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean open = false;
+            if (i < length) {
+                Tile a =
+                        east
+                                ? layout[y0 + i][x0 + SECTOR_SIZE - 1]
+                                : layout[y0 + SECTOR_SIZE - 1][x0 + i];
+                Tile b = east ? layout[y0 + i][x0 + SECTOR_SIZE] : layout[y0 + SECTOR_SIZE][x0 + i];
+                open = a.isAccessible() && b.isAccessible();
+            }
+            if (open && runStart < 0) runStart = i;
+            if (!open && runStart >= 0) {
+                // one entrance in the middle of each open part of the border
+                int middle = (runStart + i - 1) / 2;
+                Node a =
+                        east
+                                ? addNode(layout[y0 + middle][x0 + SECTOR_SIZE - 1], sector)
+                                : addNode(layout[y0 + SECTOR_SIZE - 1][x0 + middle], sector);
+                Node b =
+                        east
+                                ? addNode(layout[y0 + middle][x0 + SECTOR_SIZE], neighbourSector)
+                                : addNode(layout[y0 + SECTOR_SIZE][x0 + middle], neighbourSector);
+                a.edges.add(new Edge(b, 1));
+                b.edges.add(new Edge(a, 1));
+                entrances.add(a);
+                entrances.add(b);
+                runStart = -1;
+            }
+        }
+        borderNodes.put(border, entrances);
+    }
+
+    private Node addNode(Tile tile, int sector) {
+        int id = freeIds.isEmpty() ? nodes.size() : freeIds.pop();
+        Node node = new Node(id, tile, sector);
+        if (id == nodes.size()) nodes.add(node);
+        else nodes.set(id, node);
+        sectorNodes.get(sector).add(node);
+        return node;
+    }
+
+    private void removeNode(Node node) {
+        sectorNodes.get(node.sector).remove(node);
+        nodes.set(node.id, null);
+        freeIds.push(node.id);
+    }
+
+    private void connectSector(SearchState state, int sector) {
+        List<Node> entrances = sectorNodes.get(sector);
+        for (Node node : entrances) {
+            node.edges.removeIf(edge -> edge.to.sector == sector);
+            localSearch(state, node.tile, sector, state.localCosts);
+            for (Node other : entrances) {
+                if (other == node) continue;
+                float cost = state.localCosts[localIndex(other.tile)];
+                if (cost < Float.POSITIVE_INFINITY) node.edges.add(new Edge(other, cost));
+            }
+        }
+    }
+
+    private int sectorOf(Coordinate coordinate) {
+        return (coordinate.y / SECTOR_SIZE) * sectorsX + coordinate.x / SECTOR_SIZE;
+    }
+
+    private static int localIndex(Tile tile) {
+        return localIndex(tile.getCoordinate());
+    }
+
+    private static int localIndex(Coordinate coordinate) {
+        return (coordinate.y % SECTOR_SIZE) * SECTOR_SIZE + coordinate.x % SECTOR_SIZE;
+    }
+
+    private static final class Node {
+        private final int id;
+        private final Tile tile;
+        private final int sector;
+        private final List<Edge> edges = new ArrayList<>();
+
+        private Node(int id, Tile tile, int sector) {
+            this.id = id;
+            this.tile = tile;
+            this.sector = sector;
+        }
+    }
+
+    private record Edge(Node to, float cost) {}
+
+    /** State of the searches of one thread, reused for all its searches. */
+    private static final class SearchState {
+        // search inside one sector, indexed by the position of the tile in the sector
+        private final float[] localCosts = new float[SECTOR_TILES];
+        private final float[] startCosts = new float[SECTOR_TILES];
+        private final float[] endCosts = new float[SECTOR_TILES];
+        private final int[] localParents = new int[SECTOR_TILES];
+        private final int[] localQueue = new int[SECTOR_TILES];
+        private final boolean[] localQueued = new boolean[SECTOR_TILES];
+        private final List<Tile> refinement = new ArrayList<>();
+
+        private Tile start;
+        private Tile end;
+        private int startSector;
+        private int endSector;
+
+        // search on the abstract graph, indexed by the id of the node
+        private int searchId = 0;
+        private int[] reached = new int[0];
+        private int[] closed = new int[0];
+        private float[] costs = new float[0];
+        private int[] parents = new int[0];
+        private int[] path = new int[0];
+        // binary min-heap of the reached nodes, ordered by the estimated cost
+        private float[] heapCosts = new float[0];
+        private int[] heapNodes = new int[0];
+        private int heapSize = 0;
+
+        private void ensureCapacity(int nodeCount) {
+            if (reached.length >= nodeCount) return;
+            int capacity = Math.max(nodeCount, 2 * reached.length);
+            reached = Arrays.copyOf(reached, capacity);
+            closed = Arrays.copyOf(closed, capacity);
+            costs = Arrays.copyOf(costs, capacity);
+            parents = Arrays.copyOf(parents, capacity);
+            path = Arrays.copyOf(path, capacity);
+        }
+
+        private void push(int node, float cost) {
+            if (heapSize == heapNodes.length) {
+                int capacity = Math.max(16, 2 * heapSize);
+                heapCosts = Arrays.copyOf(heapCosts, capacity);
+                heapNodes = Arrays.copyOf(heapNodes, capacity);
+            }
+            int i = heapSize++;
+            while (i > 0 && heapCosts[(i - 1) / 2] > cost) {
+                heapCosts[i] = heapCosts[(i - 1) / 2];
+                heapNodes[i] = heapNodes[(i - 1) / 2];
+                i = (i - 1) / 2;
+            }
+            heapCosts[i] = cost;
+            heapNodes[i] = node;
+        }
+
+        private int poll() {
+            int node = heapNodes[0];
+            heapSize--;
+            float cost = heapCosts[heapSize];
+            int last = heapNodes[heapSize];
+            int i = 0;
+            while (2 * i + 1 < heapSize) {
+                int child = 2 * i + 1;
+                if (child + 1 < heapSize && heapCosts[child + 1] < heapCosts[child]) child++;
+                if (heapCosts[child] >= cost) break;
+                heapCosts[i] = heapCosts[child];
+                heapNodes[i] = heapNodes[child];
+                i = child;
+            }
+            heapCosts[i] = cost;
+            heapNodes[i] = last;
+            return node;
+        }
+    }
+}
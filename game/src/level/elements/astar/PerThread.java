@@ -0,0 +1,42 @@
+package level.elements.astar;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One value per thread, owned by the object that keeps this.
+ *
+ * <p>Other than a {@link ThreadLocal}, the values are not referenced by the threads. A pathfinder
+ * stored in a {@link ThreadLocal} references its level, so the level would stay reachable from
+ * every thread that searched a path in it. The values kept here are collected together with their
+ * owner, e.g. the level. Values of threads that terminated are dropped when a new thread stores a
+ * value.
+ *
+ * @param <T> type of the values
+ */
+public final class PerThread<T> {
+    private final Map<Thread, T> values = new ConcurrentHashMap<>();
+
+    /**
+     * @return the value of the current thread, <code>null</code> if it has none
+     */
+    public T get() {
+        return values.get(Thread.currentThread());
+    }
+
+    /**
+     * @param value new value of the current thread
+     */
+    public void set(T value) {
+        if (values.put(Thread.currentThread(), value) == null) {
+            values.keySet().removeIf(thread -> !thread.isAlive());
+        }
+    }
+
+    /**
+     * @return number of threads with a value
+     */
+    public int size() {
+        return values.size();
+    }
+}
@@ -24,12 +24,10 @@ public class TileConnection implements Connection<Tile> {
     public TileConnection(Tile from, Tile to) {
         this.from = from;
         this.to = to;
-        this.cost =
-                Vector2.dst(
-                        from.getCoordinate().x,
-                        from.getCoordinate().y,
-                        to.getCoordinate().x,
-                        to.getCoordinate().y);
+        int dx = Math.abs(from.getCoordinate().x - to.getCoordinate().x);
+        int dy = Math.abs(from.getCoordinate().y - to.getCoordinate().y);
+        // direct neighbours are always one apart
+        this.cost = dx + dy == 1 ? 1 : Vector2.dst(0, 0, dx, dy);
     }
 
     @Override
@@ -1,7 +1,6 @@
 package level.elements.astar;
 
 import com.badlogic.gdx.ai.pfa.Heuristic;
-import com.badlogic.gdx.math.Vector2;
 import level.elements.tile.Tile;
 
 /**
@@ -12,16 +11,16 @@ public class TileHeuristic implements Heuristic<Tile> {
     /**
      * Heuristic used by the pathfinding algorithm
      *
+     * <p>Uses the manhattan distance. Tiles are only connected to their four direct neighbours, so
+     * it never overestimates the costs and keeps the search directed to the goal.
+     *
      * @param start From
      * @param goal To
      * @return Distance between from and to tile
      */
     @Override
     public float estimate(Tile start, Tile goal) {
-        return Vector2.dst2(
-                start.getCoordinate().x,
-                start.getCoordinate().y,
-                goal.getCoordinate().x,
-                goal.getCoordinate().y);
+        return Math.abs(start.getCoordinate().x - goal.getCoordinate().x)
+                + Math.abs(start.getCoordinate().y - goal.getCoordinate().y);
     }
 }
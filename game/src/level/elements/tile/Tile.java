@@ -25,7 +25,8 @@ public abstract class Tile {
 
     protected ILevel level;
     protected LevelElement levelElement;
-    protected transient Array<Connection<Tile>> connections = new Array<>();
+    // a tile is connected to at most its four direct neighbours
+    protected transient Array<Connection<Tile>> connections = new Array<>(4);
     protected int index;
 
     /**
@@ -65,6 +66,7 @@ public abstract class Tile {
      */
     public void setTexturePath(String texture) {
         this.texturePath = texture;
+        if (level != null) level.markLayoutChanged();
     }
 
     /**
@@ -146,11 +148,38 @@ public abstract class Tile {
      */
     public void addConnection(Tile to) {
         if (connections == null) {
-            connections = new Array<>();
+            connections = new Array<>(4);
         }
         connections.add(new TileConnection(this, to));
     }
 
+    /**
+     * Removes the connection from this tile to the given tile.
+     *
+     * @param to Tile to disconnect from.
+     */
+    public void removeConnection(Tile to) {
+        for (int i = 0; i < connections.size; i++) {
+            if (connections.get(i).getToNode() == to) {
+                connections.removeIndex(i);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Checks if this tile is connected to the given tile.
+     *
+     * @param to Tile to check for.
+     * @return true if there is a connection from this tile to the given tile
+     */
+    public boolean isConnectedTo(Tile to) {
+        for (int i = 0; i < connections.size; i++) {
+            if (connections.get(i).getToNode() == to) return true;
+        }
+        return false;
+    }
+
     /**
      * Used by libGDX pathfinding
      *
@@ -1,19 +1,39 @@
 package level.generator;
 
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 import level.elements.ILevel;
 import level.tools.DesignLabel;
 import level.tools.LevelElement;
 import level.tools.LevelSize;
 
+/**
+ * Generates levels.
+ *
+ * <p>Every generator can be given a seed. The same seed and configuration always generate the same
+ * level, including the start and the end tile. The methods without a seed use a random seed.
+ */
 public interface IGenerator {
     /**
      * Get a level with the given configuration.
      *
      * @param designLabel Design of the level
      * @param size Size of the level
+     * @param seed Seed of the level
      * @return The level
      */
-    ILevel getLevel(DesignLabel designLabel, LevelSize size);
+    ILevel getLevel(DesignLabel designLabel, LevelSize size, long seed);
+
+    /**
+     * Get a level with the given configuration.
+     *
+     * @param designLabel Design of the level
+     * @param size Size of the level
+     * @return The level
+     */
+    default ILevel getLevel(DesignLabel designLabel, LevelSize size) {
+        return getLevel(designLabel, size, randomSeed());
+    }
 
     /**
      * Get a level with a random configuration.
@@ -24,6 +44,19 @@ public interface IGenerator {
         return getLevel(DesignLabel.randomDesign(), LevelSize.randomSize());
     }
 
+    /**
+     * Get a level whose design and size are chosen by the seed.
+     *
+     * @param seed Seed of the level
+     * @return The level
+     */
+    default ILevel getLevel(long seed) {
+        Random random = new Random(seed);
+        DesignLabel designLabel = DesignLabel.values()[random.nextInt(DesignLabel.values().length)];
+        LevelSize size = LevelSize.values()[random.nextInt(LevelSize.values().length)];
+        return getLevel(designLabel, size, random.nextLong());
+    }
+
     /**
      * Get a level with the given configuration and a random size.
      *
@@ -44,11 +77,39 @@ public interface IGenerator {
         return getLevel(DesignLabel.randomDesign(), size);
     }
 
+    /**
+     * Get a level layout with the given configuration.
+     *
+     * @param size Size of the level
+     * @param seed Seed of the layout
+     * @return The layout
+     */
+    LevelElement[][] getLayout(LevelSize size, long seed);
+
     /**
      * Get a level layout with the given configuration.
      *
      * @param size Size of the level
      * @return The layout
      */
-    LevelElement[][] getLayout(LevelSize size);
+    default LevelElement[][] getLayout(LevelSize size) {
+        return getLayout(size, randomSeed());
+    }
+
+    /**
+     * Name of the generator, generators with the same name and seed must generate the same levels
+     * (e.g. for the {@link level.cache.LevelCache}).
+     *
+     * @return name of the generator
+     */
+    default String getName() {
+        return getClass().getSimpleName();
+    }
+
+    /**
+     * @return a new random seed
+     */
+    static long randomSeed() {
+        return ThreadLocalRandom.current().nextLong();
+    }
 }
@@ -1,6 +1,7 @@
 package level.generator.perlinNoise;
 
 import java.util.Random;
+import java.util.stream.IntStream;
 
 /**
  * Class generating a perlin noise array
@@ -123,23 +124,33 @@ public class PerlinNoise {
     /**
      * get the noise for all points
      *
+     * <p>The columns of the noise do not depend on each other, so they are calculated in parallel.
+     * Each column sums up all octaves in a buffer of its own instead of a whole noise array per
+     * octave.
+     *
      * @param zoom zoom determines to skip / repeat some values
      * @return all noise values
      */
     public double[][] noiseAll(final double zoom) {
         final double[][] noise =
                 new double[(int) (repetitionWidth / zoom)][(int) (repetitionHeight / zoom)];
+        IntStream.range(0, noise.length)
+                .parallel()
+                .forEach(x -> noiseColumn(noise[x], (int) (x * zoom), zoom));
+        return noise;
+    }
+
+    private void noiseColumn(final double[] noise, final int x, final double zoom) {
+        final double[] octaveNoise = new double[repetitionHeight];
         double fScaleAcc = 0;
         double fScale = 1;
 
         // every octave
         for (int o = 0; o < octaves.length; o++) {
-            final double[][] octaveNoise = calculateOctaveNoise(o);
+            calculateOctaveNoise(o, x, octaveNoise);
             // apply noise to overall noise
             for (int y = 0; y < noise.length; y++) {
-                for (int x = 0; x < noise[0].length; x++) {
-                    noise[y][x] += octaveNoise[(int) (y * zoom)][(int) (x * zoom)] * fScale;
-                }
+                noise[y] += octaveNoise[(int) (y * zoom)] * fScale;
             }
             // scale of next octave
             fScaleAcc += fScale;
@@ -147,64 +158,35 @@ public class PerlinNoise {
         }
         // scale back to required interval [0, 1)
         for (int y = 0; y < noise.length; y++) {
-            for (int x = 0; x < noise[0].length; x++) {
-                noise[y][x] /= fScaleAcc;
-            }
+            noise[y] /= fScaleAcc;
         }
-        return noise;
     }
 
-    private double[][] calculateOctaveNoise(final int octave) {
+    private void calculateOctaveNoise(final int octave, final int x, final double[] octaveNoise) {
         final int nPitchX = repetitionWidth >> octaves[octave];
         final int nPitchY = repetitionHeight >> octaves[octave];
-        final double[][] octaveNoise = calculateAreaEdge(nPitchX, nPitchY, octave);
+        final int nSampleX1 = x / nPitchX * nPitchX;
+        final int nSampleX2 = nSampleX1 + nPitchX;
+        final double[] columnLeft = permutation[octave][nSampleX1];
+        final double[] columnRight = permutation[octave][nSampleX2 % repetitionWidth];
+        final double blendX = ((double) (x - nSampleX1) / nPitchX);
 
-        // middle of each square
-        for (int nSampleY1 = 0; nSampleY1 < repetitionHeight; nSampleY1 += nPitchY) {
-            final int nSampleY2 = nSampleY1 + nPitchY;
-            for (int nSampleX1 = 0; nSampleX1 < repetitionWidth; nSampleX1 += nPitchX) {
-                final int nSampleX2 = (nSampleX1 + nPitchX);
-                // every pixel y noise
-                for (int pixelNumberX = nSampleX1;
-                        pixelNumberX < nSampleX2 && pixelNumberX < repetitionWidth;
-                        pixelNumberX++) {
-                    for (int pixelNummerY = nSampleY1;
-                            pixelNummerY < nSampleY2 && pixelNummerY < repetitionHeight;
-                            pixelNummerY++) {
-                        final double pixelTop =
-                                octaveNoise[pixelNumberX % repetitionWidth][
-                                        nSampleY1 % repetitionHeight];
-                        final double pixelBottom =
-                                octaveNoise[pixelNumberX % repetitionWidth][
-                                        nSampleY2 % repetitionHeight];
-                        final double blendY = ((double) (pixelNummerY - nSampleY1) / nPitchY);
-                        octaveNoise[pixelNumberX][pixelNummerY] =
-                                interpolate(pixelTop, pixelBottom, blendY);
-                    }
-                }
-            }
-        }
-        return octaveNoise;
-    }
-
-    private double[][] calculateAreaEdge(final int nPitchX, final int nPitchY, final int octave) {
-        final double[][] octaveNoise = new double[repetitionWidth][repetitionHeight];
         // edges of each square
         for (int hightY = 0; hightY < repetitionHeight; hightY += nPitchY) {
-            for (int nSampleX1 = 0; nSampleX1 < repetitionWidth; nSampleX1 += nPitchX) {
-                final int nSampleX2 = (nSampleX1 + nPitchX);
-                // X-direction
-                for (int pixelNumberX = nSampleX1;
-                        pixelNumberX < nSampleX2 && pixelNumberX < repetitionWidth;
-                        pixelNumberX++) {
-                    final double pixelLeft = permutation[octave][nSampleX1][hightY];
-                    final double pixelRight =
-                            permutation[octave][nSampleX2 % repetitionWidth][hightY];
-                    final double blendX = ((double) (pixelNumberX - nSampleX1) / nPitchX);
-                    octaveNoise[pixelNumberX][hightY] = interpolate(pixelLeft, pixelRight, blendX);
-                }
+            octaveNoise[hightY] = interpolate(columnLeft[hightY], columnRight[hightY], blendX);
+        }
+
+        // middle of each square, in order, the last square may wrap around to an earlier one
+        for (int nSampleY1 = 0; nSampleY1 < repetitionHeight; nSampleY1 += nPitchY) {
+            final int nSampleY2 = nSampleY1 + nPitchY;
+            for (int pixelNumberY = nSampleY1;
+                    pixelNumberY < nSampleY2 && pixelNumberY < repetitionHeight;
+                    pixelNumberY++) {
+                final double pixelTop = octaveNoise[nSampleY1];
+                final double pixelBottom = octaveNoise[nSampleY2 % repetitionHeight];
+                final double blendY = ((double) (pixelNumberY - nSampleY1) / nPitchY);
+                octaveNoise[pixelNumberY] = interpolate(pixelTop, pixelBottom, blendY);
             }
         }
-        return octaveNoise;
     }
 }
@@ -10,7 +10,6 @@ import level.tools.LevelElement;
 import level.tools.LevelSize;
 
 public class PerlinNoiseGenerator implements IGenerator {
-    private static final Random GLOBAL_RANDOM = new Random();
     private static final int SMALL_MIN_X_SIZE = 30;
     private static final int SMALL_MIN_Y_SIZE = 30;
     private static final int SMALL_MAX_X_SIZE = 40;
@@ -25,28 +24,13 @@ public class PerlinNoiseGenerator implements IGenerator {
     private static final int BIG_MAX_Y_SIZE = 150;
 
     @Override
-    public ILevel getLevel(DesignLabel designLabel, LevelSize size) {
-        return getLevel(designLabel, size, GLOBAL_RANDOM);
+    public ILevel getLevel(DesignLabel designLabel, LevelSize size, long seed) {
+        return getLevel(designLabel, size, new Random(seed));
     }
 
     @Override
-    public LevelElement[][] getLayout(LevelSize size) {
-        return getLayout(size, new Random());
-    }
-
-    /**
-     * generates a new level based on the seed
-     *
-     * <p>the same seed should give the same level
-     *
-     * @param seed seed of level
-     * @return The level.
-     */
-    public ILevel getLevel(long seed) {
-        final Random random = new Random(seed);
-        DesignLabel designLabel = DesignLabel.values()[random.nextInt(DesignLabel.values().length)];
-        LevelSize size = LevelSize.values()[random.nextInt(LevelSize.values().length)];
-        return getLevel(designLabel, size, random);
+    public LevelElement[][] getLayout(LevelSize size, long seed) {
+        return getLayout(size, new Random(seed));
     }
 
     /**
@@ -60,7 +44,7 @@ public class PerlinNoiseGenerator implements IGenerator {
     public ILevel getLevel(DesignLabel designLabel, LevelSize size, final Random random) {
         // playing field
         LevelElement[][] elements = getLayout(size, random);
-        TileLevel generatedLevel = new TileLevel(elements, designLabel);
+        TileLevel generatedLevel = new TileLevel(elements, designLabel, random);
         return generatedLevel;
     }
 
@@ -1,5 +1,6 @@
 package level.generator.postGeneration;
 
+import java.util.Random;
 import level.elements.ILevel;
 import level.elements.TileLevel;
 import level.generator.IGenerator;
@@ -31,21 +32,27 @@ public class WallGenerator implements IGenerator {
     }
 
     @Override
-    public ILevel getLevel(DesignLabel designLabel, LevelSize size) {
-        runPreGeneration(size);
+    public ILevel getLevel(DesignLabel designLabel, LevelSize size, long seed) {
+        Random random = new Random(seed);
+        runPreGeneration(size, random.nextLong());
         placeWalls();
-        return new TileLevel(layout, designLabel);
+        return new TileLevel(layout, designLabel, random);
     }
 
     @Override
-    public LevelElement[][] getLayout(LevelSize size) {
-        runPreGeneration(size);
+    public LevelElement[][] getLayout(LevelSize size, long seed) {
+        runPreGeneration(size, new Random(seed).nextLong());
         placeWalls();
         return layout;
     }
 
-    private void runPreGeneration(LevelSize size) {
-        LevelElement[][] preLayout = preGenerator.getLayout(size);
+    @Override
+    public String getName() {
+        return "WallGenerator-" + preGenerator.getName();
+    }
+
+    private void runPreGeneration(LevelSize size, long seed) {
+        LevelElement[][] preLayout = preGenerator.getLayout(size, seed);
         // Surround layout with 2 layers of LevelElement.SKIP
         this.layout = new LevelElement[preLayout.length + 4][preLayout[0].length + 4];
         for (int i = 0; i < this.layout.length; i++) {
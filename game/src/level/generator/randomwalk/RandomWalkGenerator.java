@@ -12,7 +12,6 @@ import level.tools.LevelSize;
 public class RandomWalkGenerator implements IGenerator {
     private record MinMaxValue(int min, int max) {}
 
-    private static final Random RANDOM = new Random();
     private static final int SMALL_MIN_X_SIZE = 10;
     private static final int SMALL_MIN_Y_SIZE = 10;
     private static final int SMALL_MAX_X_SIZE = 30;
@@ -29,33 +28,44 @@ public class RandomWalkGenerator implements IGenerator {
     private static final int MAX_STEPS_FACTOR = 2;
 
     @Override
-    public ILevel getLevel(DesignLabel designLabel, LevelSize size) {
-        return new TileLevel(getLayout(size), designLabel);
+    public ILevel getLevel(DesignLabel designLabel, LevelSize size, long seed) {
+        Random random = new Random(seed);
+        return new TileLevel(getLayout(size, random), designLabel, random);
     }
 
     /**
      * Generates the floor layout to a specified level size
      *
      * @param size size of the level to be generated
+     * @param seed seed of the layout
      * @return layout of the level
      */
-    public LevelElement[][] getLayout(LevelSize size) {
+    @Override
+    public LevelElement[][] getLayout(LevelSize size, long seed) {
+        return getLayout(size, new Random(seed));
+    }
+
+    private LevelElement[][] getLayout(LevelSize size, Random random) {
         return switch (size) {
             case SMALL -> drunkWalk(
                     new MinMaxValue(SMALL_MIN_X_SIZE, SMALL_MAX_X_SIZE),
-                    new MinMaxValue(SMALL_MIN_Y_SIZE, SMALL_MAX_Y_SIZE));
+                    new MinMaxValue(SMALL_MIN_Y_SIZE, SMALL_MAX_Y_SIZE),
+                    random);
             case LARGE -> drunkWalk(
                     new MinMaxValue(BIG_MIN_X_SIZE, BIG_MAX_X_SIZE),
-                    new MinMaxValue(BIG_MIN_Y_SIZE, BIG_MAX_Y_SIZE));
+                    new MinMaxValue(BIG_MIN_Y_SIZE, BIG_MAX_Y_SIZE),
+                    random);
             default -> drunkWalk(
                     new MinMaxValue(MEDIUM_MIN_X_SIZE, MEDIUM_MAX_X_SIZE),
-                    new MinMaxValue(MEDIUM_MIN_Y_SIZE, MEDIUM_MAX_Y_SIZE));
+                    new MinMaxValue(MEDIUM_MIN_Y_SIZE, MEDIUM_MAX_Y_SIZE),
+                    random);
         };
     }
 
-    private LevelElement[][] drunkWalk(MinMaxValue minMaxValueX, MinMaxValue minMaxValueY) {
-        int xSize = RANDOM.nextInt(minMaxValueX.min(), minMaxValueX.max());
-        int ySize = RANDOM.nextInt(minMaxValueY.min(), minMaxValueY.max());
+    private LevelElement[][] drunkWalk(
+            MinMaxValue minMaxValueX, MinMaxValue minMaxValueY, Random random) {
+        int xSize = random.nextInt(minMaxValueX.min(), minMaxValueX.max());
+        int ySize = random.nextInt(minMaxValueY.min(), minMaxValueY.max());
         LevelElement[][] layout = new LevelElement[ySize][xSize];
         for (int y = 0; y < ySize; y++) {
             for (int x = 0; x < xSize; x++) {
@@ -63,21 +73,21 @@ public class RandomWalkGenerator implements IGenerator {
             }
         }
 
-        Coordinate position = new Coordinate(RANDOM.nextInt(0, xSize), RANDOM.nextInt(0, ySize));
+        Coordinate position = new Coordinate(random.nextInt(0, xSize), random.nextInt(0, ySize));
         int steps =
-                RANDOM.nextInt(
+                random.nextInt(
                         (xSize * ySize) / MIN_STEPS_FACTOR, (xSize * ySize) / MAX_STEPS_FACTOR);
         for (; steps > 0; steps--) {
             layout[position.y][position.x] = LevelElement.FLOOR;
 
-            if (RANDOM.nextBoolean()) {
-                if (RANDOM.nextBoolean()) {
+            if (random.nextBoolean()) {
+                if (random.nextBoolean()) {
                     position.x = Math.min(position.x + 1, xSize - 1);
                 } else {
                     position.x = Math.max(position.x - 1, 0);
                 }
             } else {
-                if (RANDOM.nextBoolean()) {
+                if (random.nextBoolean()) {
                     position.y = Math.min(position.y + 1, ySize - 1);
                 } else {
                     position.y = Math.max(position.y - 1, 0);
@@ -86,20 +96,20 @@ public class RandomWalkGenerator implements IGenerator {
         }
 
         // pick random floor tile as exit
-        Coordinate c = getRandomFloor(layout);
+        Coordinate c = getRandomFloor(layout, random);
         layout[c.y][c.x] = LevelElement.EXIT;
 
         return layout;
     }
 
-    private Coordinate getRandomFloor(LevelElement[][] layout) {
+    private Coordinate getRandomFloor(LevelElement[][] layout, Random random) {
         Coordinate coordinate =
-                new Coordinate(RANDOM.nextInt(layout[0].length), RANDOM.nextInt(layout.length));
+                new Coordinate(random.nextInt(layout[0].length), random.nextInt(layout.length));
         LevelElement randomTile = layout[coordinate.y][coordinate.x];
         if (randomTile == LevelElement.FLOOR) {
             return coordinate;
         } else {
-            return getRandomFloor(layout);
+            return getRandomFloor(layout, random);
         }
     }
 }
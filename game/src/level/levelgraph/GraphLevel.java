@@ -1,8 +1,13 @@
 package level.levelgraph;
 
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
 import level.elements.tile.DoorTile;
 import level.elements.tile.Tile;
+import level.generator.IGenerator;
 import level.room.IRoom;
 import level.room.RoomGenerator;
 import level.tools.Coordinate;
@@ -24,20 +29,53 @@ public class GraphLevel {
      * @param designLabel The design of the rooms
      */
     public GraphLevel(LevelNode root, LevelSize size, DesignLabel designLabel) {
+        this(root, size, designLabel, IGenerator.randomSeed());
+    }
+
+    /**
+     * @param root Root-Node of the graph
+     * @param size The level size
+     * @param designLabel The design of the rooms
+     * @param seed Seed of the level, the same seed and graph generate the same rooms
+     */
+    public GraphLevel(LevelNode root, LevelSize size, DesignLabel designLabel, long seed) {
         this.root = root;
         this.designLabel = designLabel;
         this.size = size;
         generator = new RoomGenerator();
-        createRooms(root, new LinkedHashSet());
+        createRooms(seed);
         findDoors(root, new LinkedHashSet());
     }
 
-    // Visit all Nodes and create a room for each of them
-    private void createRooms(LevelNode node, LinkedHashSet<LevelNode> visited) {
+    /**
+     * Creates a room for each node. The rooms do not depend on each other until their doors are
+     * linked, so they are generated in parallel. Each room gets its own seed in the order the nodes
+     * are visited, so the rooms do not depend on the order they are generated in.
+     */
+    private void createRooms(long seed) {
+        List<LevelNode> nodes = new ArrayList<>();
+        collectNodes(root, new LinkedHashSet<>(), nodes);
+        Random random = new Random(seed);
+        long[] seeds = new long[nodes.size()];
+        for (int i = 0; i < seeds.length; i++) seeds[i] = random.nextLong();
+        IntStream.range(0, nodes.size())
+                .parallel()
+                .forEach(i -> createRoom(nodes.get(i), seeds[i]));
+    }
+
+    private void createRoom(LevelNode node, long seed) {
+        node.setRoom(
+                generator.getLevel(
+                        designLabel, size, node.getNeighboursAsDirection(), node, seed));
+    }
+
+    // Visit all Nodes and collect them in the order they are visited
+    private void collectNodes(
+            LevelNode node, LinkedHashSet<LevelNode> visited, List<LevelNode> nodes) {
         if (node == null || visited.contains(node)) return;
-        node.setRoom(generator.getLevel(designLabel, size, node.getNeighboursAsDirection(), node));
         visited.add(node);
-        for (LevelNode neighbour : node.getNeighbours()) createRooms(neighbour, visited);
+        nodes.add(node);
+        for (LevelNode neighbour : node.getNeighbours()) collectNodes(neighbour, visited, nodes);
     }
 
     // Add the connection between the doors
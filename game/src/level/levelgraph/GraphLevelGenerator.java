@@ -41,14 +41,14 @@ public class GraphLevelGenerator implements IGenerator {
     }
 
     @Override
-    public ILevel getLevel(DesignLabel designLabel, LevelSize size) {
+    public ILevel getLevel(DesignLabel designLabel, LevelSize size, long seed) {
         if (root == null)
             throw new NullPointerException("Root is null. Please add a graph to this generator");
-        else return (ILevel) new GraphLevel(root, size, designLabel).getRootRoom();
+        else return (ILevel) new GraphLevel(root, size, designLabel, seed).getRootRoom();
     }
 
     @Override
-    public LevelElement[][] getLayout(LevelSize size) {
+    public LevelElement[][] getLayout(LevelSize size, long seed) {
         throw new UnsupportedOperationException("This Method is not supported for GraphLevel");
     }
 
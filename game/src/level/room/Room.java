@@ -3,6 +3,7 @@ package level.room;
 import ecs.entities.Entity;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.Random;
 import level.elements.TileLevel;
 import level.elements.tile.DoorTile;
 import level.elements.tile.Tile;
@@ -28,6 +29,11 @@ public class Room extends TileLevel implements IRoom {
         levelNode = node;
     }
 
+    public Room(LevelElement[][] layout, DesignLabel designLabel, LevelNode node, Random random) {
+        super(layout, designLabel, random);
+        levelNode = node;
+    }
+
     /**
      * Add a door to the list
      *
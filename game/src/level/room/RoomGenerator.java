@@ -1,11 +1,10 @@
 package level.room;
 
-import static level.elements.ILevel.RANDOM;
-
 import java.util.ArrayList;
 import java.util.Random;
 import level.elements.tile.DoorTile;
 import level.elements.tile.Tile;
+import level.generator.IGenerator;
 import level.levelgraph.DoorDirection;
 import level.levelgraph.LevelNode;
 import level.tools.Coordinate;
@@ -47,8 +46,6 @@ public class RoomGenerator {
     private static final int BIG_MAX_X_SIZE = 24;
     private static final int BIG_MAX_Y_SIZE = 24;
 
-    private Random random;
-
     /**
      * Generates a random room with given parameters.
      *
@@ -60,7 +57,29 @@ public class RoomGenerator {
      */
     public IRoom getLevel(
             DesignLabel designLabel, LevelSize size, DoorDirection[] doors, LevelNode node) {
-        Room room = new Room(getLayout(size, doors), designLabel, node);
+        return getLevel(designLabel, size, doors, node, IGenerator.randomSeed());
+    }
+
+    /**
+     * Generates a room with given parameters, the same seed generates the same room.
+     *
+     * @param designLabel Design of the room tiles
+     * @param size Size of the room
+     * @param doors Directions of doors to be generated
+     * @param node LevelNode the room should be attached to
+     * @param seed Seed of the room
+     * @return The generated room
+     */
+    public IRoom getLevel(
+            DesignLabel designLabel,
+            LevelSize size,
+            DoorDirection[] doors,
+            LevelNode node,
+            long seed) {
+        Random random = new Random(seed);
+        LevelElement[][] layout = generateRoom(size, random, doors);
+        // the start tile is chosen with the same random number generator as the layout
+        Room room = new Room(layout, designLabel, node, random);
         addDoorTilesToRoom(room);
         return room;
     }
@@ -73,21 +92,30 @@ public class RoomGenerator {
      * @return The generated room layout
      */
     public LevelElement[][] getLayout(LevelSize size, DoorDirection[] doors) {
-        return generateRoom(size, RANDOM.nextLong(), doors);
+        return getLayout(size, IGenerator.randomSeed(), doors);
     }
 
     /**
-     * Generates a room layout with the given parameters.
+     * Generates a room layout with the given parameters, the same seed generates the same layout.
      *
      * @param size Size of the room
-     * @param seed Seed to initialize the random number generator
+     * @param seed Seed of the layout
      * @param doors Array of DoorDirections to specify where doors should be generated
      * @return The generated room layout
      */
-    private LevelElement[][] generateRoom(LevelSize size, long seed, DoorDirection[] doors) {
-        // Initialize random number generator with seed
-        random = new Random(seed);
+    public LevelElement[][] getLayout(LevelSize size, long seed, DoorDirection[] doors) {
+        return generateRoom(size, new Random(seed), doors);
+    }
 
+    /**
+     * Generates a room layout with the given parameters.
+     *
+     * @param size Size of the room
+     * @param random Random number generator of this room
+     * @param doors Array of DoorDirections to specify where doors should be generated
+     * @return The generated room layout
+     */
+    private LevelElement[][] generateRoom(LevelSize size, Random random, DoorDirection[] doors) {
         // Define max room size
         Area maxArea;
         switch (size) {
@@ -171,9 +199,9 @@ public class RoomGenerator {
         // Small rooms cannot extend to the corners
         // Medium and Big Rooms can extend to corner or sides
         if (size == LevelSize.SMALL || random.nextFloat() < EXTEND_TO_SIDES) {
-            extendToSides(layout, maxArea, baseFloorPadding, baseFloor);
+            extendToSides(layout, maxArea, baseFloorPadding, baseFloor, random);
         } else {
-            extendToCorners(layout, maxArea, baseFloorPadding, baseFloor);
+            extendToCorners(layout, maxArea, baseFloorPadding, baseFloor, random);
         }
 
         // place Walls
@@ -197,7 +225,7 @@ public class RoomGenerator {
             addSupports(layout, baseFloorPadding, baseFloor);
         }
 
-        addDoors(doors, maxArea, layout);
+        addDoors(doors, maxArea, layout, random);
         // TODO Check if holes block access to doors
 
         // printLayout(layout, size);
@@ -211,9 +239,14 @@ public class RoomGenerator {
      * @param maxArea Maximum area of the room on which FloorTiles can be placed
      * @param baseFloorPadding Padding of the baseFloor
      * @param baseFloor Area of the baseFloor
+     * @param random Random number generator of this room
      */
     private void extendToSides(
-            LevelElement[][] layout, Area maxArea, Area baseFloorPadding, Area baseFloor) {
+            LevelElement[][] layout,
+            Area maxArea,
+            Area baseFloorPadding,
+            Area baseFloor,
+            Random random) {
         boolean up = false;
         boolean down = false;
         boolean left = false;
@@ -283,9 +316,14 @@ public class RoomGenerator {
      * @param maxArea Maximum area of the room on which FloorTiles can be placed
      * @param baseFloorPadding Padding of the baseFloor
      * @param baseFloor Area of the baseFloor
+     * @param random Random number generator of this room
      */
     private void extendToCorners(
-            LevelElement[][] layout, Area maxArea, Area baseFloorPadding, Area baseFloor) {
+            LevelElement[][] layout,
+            Area maxArea,
+            Area baseFloorPadding,
+            Area baseFloor,
+            Random random) {
         boolean upperLeft = false;
         boolean upperRight = false;
         boolean lowerLeft = false;
@@ -424,8 +462,10 @@ public class RoomGenerator {
      * @param doors Array of DoorDirections to specify where doors should be generated
      * @param maxArea Maximum area of the room on which FloorTiles can be placed
      * @param layout The layout of the level
+     * @param random Random number generator of this room
      */
-    private void addDoors(DoorDirection[] doors, Area maxArea, LevelElement[][] layout) {
+    private void addDoors(
+            DoorDirection[] doors, Area maxArea, LevelElement[][] layout, Random random) {
         boolean upperDoor = doors[DoorDirection.UP.getValue()] != null;
         boolean bottomDoor = doors[DoorDirection.DOWN.getValue()] != null;
         boolean leftDoor = doors[DoorDirection.LEFT.getValue()] != null;
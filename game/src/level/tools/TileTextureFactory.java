@@ -1,8 +1,21 @@
 package level.tools;
 
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import level.elements.tile.Tile;
 
 public class TileTextureFactory {
+    // the full texture paths of each design, so all tiles with the same texture share one string
+    private static final Map<DesignLabel, Map<String, String>> TEXTURE_PATHS =
+            new EnumMap<>(DesignLabel.class);
+
+    static {
+        for (DesignLabel design : DesignLabel.values()) {
+            TEXTURE_PATHS.put(design, new ConcurrentHashMap<>());
+        }
+    }
+
     /**
      * Helper record class for {@link TileTextureFactory}.
      *
@@ -24,35 +37,40 @@ public class TileTextureFactory {
      * @return Path to texture
      */
     public static String findTexturePath(LevelPart levelPart) {
-        String prefixPath = "dungeon/" + levelPart.design().name().toLowerCase() + "/";
-
         String path = findTexturePathFloor(levelPart);
         if (path != null) {
-            return prefixPath + path + ".png";
+            return texturePath(levelPart.design(), path);
         }
 
         path = findTexturePathDoor(levelPart);
         if (path != null) {
-            return prefixPath + path + ".png";
+            return texturePath(levelPart.design(), path);
         }
 
         path = findTexturePathInnerCorner(levelPart);
         if (path != null) {
-            return prefixPath + path + ".png";
+            return texturePath(levelPart.design(), path);
         }
 
         path = findTexturePathOuterCorner(levelPart);
         if (path != null) {
-            return prefixPath + path + ".png";
+            return texturePath(levelPart.design(), path);
         }
 
         path = findTexturePathWall(levelPart);
         if (path != null) {
-            return prefixPath + path + ".png";
+            return texturePath(levelPart.design(), path);
         }
 
         // Error state
-        return prefixPath + "floor/empty.png";
+        return texturePath(levelPart.design(), "floor/empty");
+    }
+
+    private static String texturePath(DesignLabel design, String path) {
+        return TEXTURE_PATHS
+                .get(design)
+                .computeIfAbsent(
+                        path, x -> "dungeon/" + design.name().toLowerCase() + "/" + x + ".png");
     }
 
     /**
@@ -69,25 +87,32 @@ public class TileTextureFactory {
     /**
      * Checks which texture must be used for the passed tile based on the surrounding tiles.
      *
+     * <p>The texture only depends on the direct neighbours of the tile, so only they are looked at
+     * and not the whole level.
+     *
      * @param element Tile to check for
      * @param layout The level
      * @param elementType The type ot the tile if different than the attribute
      * @return Path to texture
      */
     public static String findTexturePath(Tile element, Tile[][] layout, LevelElement elementType) {
-        LevelElement[][] elementLayout = new LevelElement[layout.length][layout[0].length];
-        for (int x = 0; x < layout[0].length; x++) {
-            for (int y = 0; y < layout.length; y++) {
-                elementLayout[y][x] = layout[y][x].getLevelElement();
+        Coordinate position = element.getCoordinate();
+        // the neighbourhood ends at the border of the level, so the neighbours outside of the
+        // level are still missing for the checks
+        int minX = Math.max(0, position.x - 1);
+        int minY = Math.max(0, position.y - 1);
+        int maxX = Math.min(layout[0].length - 1, position.x + 1);
+        int maxY = Math.min(layout.length - 1, position.y + 1);
+        LevelElement[][] neighbourhood = new LevelElement[maxY - minY + 1][maxX - minX + 1];
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                neighbourhood[y - minY][x - minX] = layout[y][x].getLevelElement();
             }
         }
-        elementLayout[element.getCoordinate().y][element.getCoordinate().x] = elementType;
+        Coordinate local = new Coordinate(position.x - minX, position.y - minY);
+        neighbourhood[local.y][local.x] = elementType;
         return findTexturePath(
-                new LevelPart(
-                        elementType,
-                        element.getDesignLabel(),
-                        elementLayout,
-                        element.getCoordinate()));
+                new LevelPart(elementType, element.getDesignLabel(), neighbourhood, local));
     }
 
     private static String findTexturePathFloor(LevelPart levelPart) {
@@ -0,0 +1,92 @@
+package logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+/**
+ * Hands log records over to a background thread that writes them in batches to another handler
+ * (usually a {@link java.util.logging.FileHandler}).
+ *
+ * <p>The logging thread only puts the record into a queue, so the game does not wait for the file
+ * I/O. If the queue is full, records are dropped instead of blocking the game, see {@link
+ * #getDroppedRecords()}.
+ */
+public class AsyncFileHandler extends Handler {
+    /** Maximum number of records waiting to be written. */
+    public static final int QUEUE_CAPACITY = 8192;
+    /** Maximum number of records written before the target handler is flushed. */
+    public static final int BATCH_SIZE = 256;
+
+    private final Handler target;
+    private final BlockingQueue<LogRecord> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final AtomicLong droppedRecords = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean closed = false;
+
+    /**
+     * Creates the handler and starts the writing thread.
+     *
+     * @param target handler that writes the records
+     */
+    public AsyncFileHandler(Handler target) {
+        this.target = target;
+        writer = new Thread(this::writeRecords, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (closed || !isLoggable(record)) return;
+        // the caller is inferred from the stack, so this has to happen on the thread that logs
+        record.getSourceClassName();
+        if (!queue.offer(record)) droppedRecords.incrementAndGet();
+    }
+
+    /**
+     * @return number of records that were dropped because the queue was full
+     */
+    public long getDroppedRecords() {
+        return droppedRecords.get();
+    }
+
+    @Override
+    public void flush() {
+        target.flush();
+    }
+
+    /** Writes all queued records and closes the target handler. */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        target.close();
+    }
+
+    private void writeRecords() {
+        List<LogRecord> batch = new ArrayList<>(BATCH_SIZE);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                LogRecord first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch, BATCH_SIZE - 1);
+            for (LogRecord record : batch) target.publish(record);
+            target.flush();
+            batch.clear();
+        }
+    }
+}
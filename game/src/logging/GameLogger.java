@@ -0,0 +1,145 @@
+package logging;
+
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Facade for the {@link Logger} of a class of the game.
+ *
+ * <p>A message is only built if its level is enabled: the methods take a {@link Supplier} that is
+ * only called for enabled levels. Code that runs for every entity in every frame should also check
+ * the level first (e.g. {@link #isDebugEnabled()}), because creating a lambda that captures values
+ * allocates as well.
+ *
+ * <p>The levels can be configured per package, see {@link LoggerConfig#setLevel(String, Level)}.
+ */
+public final class GameLogger {
+    // one logger per class, so classes can create their logger per instance without allocating
+    private static final ClassValue<GameLogger> LOGGERS =
+            new ClassValue<>() {
+                @Override
+                protected GameLogger computeValue(Class<?> type) {
+                    return new GameLogger(Logger.getLogger(type.getName()));
+                }
+            };
+
+    private static final StackWalker STACK_WALKER =
+            StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private final Logger logger;
+
+    private GameLogger(Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * @param type class that logs
+     * @return a logger named after the class
+     */
+    public static GameLogger getLogger(Class<?> type) {
+        return LOGGERS.get(type);
+    }
+
+    /**
+     * @param level level to check
+     * @return true if messages of the level are logged
+     */
+    public boolean isLoggable(Level level) {
+        return logger.isLoggable(level);
+    }
+
+    /**
+     * @return true if messages of the level {@link CustomLogLevel#DEBUG} are logged
+     */
+    public boolean isDebugEnabled() {
+        return logger.isLoggable(CustomLogLevel.DEBUG);
+    }
+
+    /**
+     * @return true if messages of the level {@link CustomLogLevel#TRACE} are logged
+     */
+    public boolean isTraceEnabled() {
+        return logger.isLoggable(CustomLogLevel.TRACE);
+    }
+
+    /**
+     * Logs the message if the level is enabled. The message is built before, so check the level
+     * first on hot paths or use {@link #log(Level, Supplier)}.
+     *
+     * @param level level of the message
+     * @param message the message
+     */
+    public void log(Level level, String message) {
+        if (logger.isLoggable(level)) logFromCaller(level, message);
+    }
+
+    /**
+     * Logs the message if the level is enabled.
+     *
+     * @param level level of the message
+     * @param message builds the message, only called if the level is enabled
+     */
+    public void log(Level level, Supplier<String> message) {
+        if (logger.isLoggable(level)) logFromCaller(level, message.get());
+    }
+
+    /**
+     * @param message builds the message, only called if {@link CustomLogLevel#TRACE} is enabled
+     */
+    public void trace(Supplier<String> message) {
+        log(CustomLogLevel.TRACE, message);
+    }
+
+    /**
+     * @param message builds the message, only called if {@link CustomLogLevel#DEBUG} is enabled
+     */
+    public void debug(Supplier<String> message) {
+        log(CustomLogLevel.DEBUG, message);
+    }
+
+    /**
+     * @param message builds the message, only called if {@link Level#INFO} is enabled
+     */
+    public void info(Supplier<String> message) {
+        log(Level.INFO, message);
+    }
+
+    /**
+     * @param message builds the message, only called if {@link Level#WARNING} is enabled
+     */
+    public void warning(Supplier<String> message) {
+        log(Level.WARNING, message);
+    }
+
+    /**
+     * @param message builds the message, only called if {@link CustomLogLevel#ERROR} is enabled
+     */
+    public void error(Supplier<String> message) {
+        log(CustomLogLevel.ERROR, message);
+    }
+
+    /**
+     * @param message builds the message, only called if {@link CustomLogLevel#FATAL} is enabled
+     */
+    public void fatal(Supplier<String> message) {
+        log(CustomLogLevel.FATAL, message);
+    }
+
+    /**
+     * Logs the message with the class and method that called this logger as source. The {@link
+     * Logger} would only skip its own frames and name this class as source.
+     */
+    private void logFromCaller(Level level, String message) {
+        StackWalker.StackFrame caller =
+                STACK_WALKER
+                        .walk(frames -> frames.filter(GameLogger::isCaller).findFirst())
+                        .orElse(null);
+        if (caller == null) logger.log(level, message);
+        else logger.logp(level, caller.getClassName(), caller.getMethodName(), message);
+    }
+
+    private static boolean isCaller(StackWalker.StackFrame frame) {
+        return frame.getDeclaringClass() != GameLogger.class;
+    }
+}
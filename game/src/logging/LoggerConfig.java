@@ -6,14 +6,32 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
+/**
+ * Configures the logging of the game.
+ *
+ * <p>All messages of the level {@link #DEFAULT_LEVEL} and above are written to a file by an {@link
+ * AsyncFileHandler}. The level can be changed per package with {@link #setLevel(String, Level)} or
+ * the system property {@link #LEVELS_PROPERTY}, e.g. <code>
+ * -Ddungeon.log.levels=ecs.components=DEBUG,level=WARNING</code>.
+ */
 public class LoggerConfig {
+    /** Level of all loggers without a configured level. */
+    public static final Level DEFAULT_LEVEL = Level.INFO;
+    /** System property with the levels per package: <code>package=LEVEL,...</code> */
+    public static final String LEVELS_PROPERTY = "dungeon.log.levels";
+
     private static Logger baseLogger;
-    private static FileHandler customFileHandler;
+    private static Handler customFileHandler;
+    // loggers are only weakly referenced by the LogManager, keep the configured ones alive
+    private static final Map<String, Logger> configuredLoggers = new HashMap<>();
 
     private static void createCustomFileHandler() {
         SimpleDateFormat dateFormat = new SimpleDateFormat("dd-MM-yyyy'T'HH-mm-ss");
@@ -29,20 +47,76 @@ public class LoggerConfig {
                 newLogFile.createNewFile();
                 baseLogger.info("Logfile '" + filepath + "' was created.");
             }
-            customFileHandler = new FileHandler(filepath);
-            customFileHandler.setFormatter(new SimpleFormatter());
+            FileHandler fileHandler = new FileHandler(filepath);
+            fileHandler.setFormatter(new SimpleFormatter());
+            customFileHandler = new AsyncFileHandler(fileHandler);
         } catch (IOException ioE) {
             baseLogger.warning(
                     "Creation of FileHandler in class 'LoggerConfig' failed: " + ioE.getMessage());
         }
     }
 
-    /** Creates a new base logger that records all occurring logs to a file. */
+    /**
+     * Creates a new base logger that records all logs of the configured levels to a file.
+     *
+     * <p>The levels per package are read from the system property {@link #LEVELS_PROPERTY}.
+     */
     public static void initBaseLogger() {
         baseLogger = Logger.getLogger("");
-        baseLogger.setLevel(Level.ALL);
+        baseLogger.setLevel(DEFAULT_LEVEL);
         createCustomFileHandler();
 
-        baseLogger.addHandler(customFileHandler);
+        if (customFileHandler != null) baseLogger.addHandler(customFileHandler);
+        setLevels(System.getProperty(LEVELS_PROPERTY, ""));
+    }
+
+    /**
+     * Sets the level of all loggers in the package (and its sub packages) or of the class.
+     *
+     * @param name name of the package or class, e.g. <code>ecs.components</code>
+     * @param level messages below this level are not logged
+     */
+    public static void setLevel(String name, Level level) {
+        Logger logger = configuredLoggers.computeIfAbsent(name, Logger::getLogger);
+        logger.setLevel(level);
+    }
+
+    /**
+     * Sets the levels of several packages, see {@link #setLevel(String, Level)}.
+     *
+     * @param levels comma separated list of <code>package=LEVEL</code>, the levels can be the names
+     *     of the {@link Level}s or {@link CustomLogLevel}s, entries with unknown levels are skipped
+     */
+    public static void setLevels(String levels) {
+        for (String entry : levels.split(",")) {
+            String[] packageAndLevel = entry.split("=");
+            if (packageAndLevel.length != 2) continue;
+            String name = packageAndLevel[0].trim();
+            Level level = parseLevel(packageAndLevel[1].trim());
+            if (level == null) {
+                Logger.getLogger(LoggerConfig.class.getName())
+                        .warning("Unknown log level in '" + entry.trim() + "', it is ignored.");
+                continue;
+            }
+            setLevel(name, level);
+        }
+    }
+
+    /**
+     * @param name name or value of a {@link Level} or {@link CustomLogLevel}
+     * @return the level, <code>null</code> if there is no level with the name
+     */
+    private static Level parseLevel(String name) {
+        try {
+            return switch (name.toUpperCase()) {
+                case "FATAL" -> CustomLogLevel.FATAL;
+                case "ERROR" -> CustomLogLevel.ERROR;
+                case "DEBUG" -> CustomLogLevel.DEBUG;
+                case "TRACE" -> CustomLogLevel.TRACE;
+                default -> Level.parse(name.toUpperCase());
+            };
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
     }
 }
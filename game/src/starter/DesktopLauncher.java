@@ -18,7 +18,9 @@ public final class DesktopLauncher {
         // of the window. If the window is enlarged or maximized, then it can assume these
         // dimensions at maximum. If you have a larger screen resolution than 9999x9999 pixels,
         // increase these parameters.
-        config.setForegroundFPS(Constants.FRAME_RATE);
+        // the simulation runs at a fixed tick rate (see Game#render), so drawing is only limited by
+        // vsync
+        config.setForegroundFPS(0);
         config.setTitle(Constants.WINDOW_TITLE);
         config.setWindowIcon(Constants.LOGO_PATH);
         // config.disableAudio(true);
@@ -12,6 +12,7 @@ import configuration.Configuration;
 import configuration.KeyboardConfig;
 import controller.AbstractController;
 import controller.SystemController;
+import ecs.archetypes.ArchetypeStore;
 import ecs.components.MissingComponentException;
 import ecs.components.PositionComponent;
 import ecs.entities.Entity;
@@ -21,9 +22,13 @@ import ecs.systems.System;
 import graphic.DungeonCamera;
 import graphic.Painter;
 import graphic.hud.PauseMenu;
+import graphic.hud.SystemStatisticsOverlay;
+import graphic.textures.TextureAtlasPacker;
 import graphic.textures.TextureHandler;
+import graphic.textures.TextureMap;
 import java.io.IOException;
 import java.util.*;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import level.IOnLevelLoader;
 import level.LevelAPI;
@@ -61,11 +66,18 @@ public class Game extends ScreenAdapter implements IOnLevelLoader {
     private boolean doSetup = true;
     private static boolean paused = false;
 
+    /** Time in seconds the simulation is behind the real time */
+    private float accumulator = 0;
+    /** How many times faster than the real time the simulation runs */
+    private static float timeScale = 1;
+    /** How far the drawn frame is between the last and the next simulation tick (0 to 1) */
+    private static float tickAlpha = 1;
+
     /** A handler for managing asset paths */
     private static TextureHandler handler;
 
-    /** All entities that are currently active in the dungeon */
-    private static final Set<Entity> entities = new HashSet<>();
+    /** All entities that are currently active in the dungeon, grouped by their archetype */
+    private static final ArchetypeStore entities = new ArchetypeStore();
     /** All entities to be removed from the dungeon in the next frame */
     private static final Set<Entity> entitiesToRemove = new HashSet<>();
     /** All entities to be added from the dungeon in the next frame */
@@ -76,6 +88,8 @@ public class Game extends ScreenAdapter implements IOnLevelLoader {
 
     public static ILevel currentLevel;
     private static PauseMenu<Actor> pauseMenu;
+    /** Shows the timings of the systems, toggled with F3 */
+    private SystemStatisticsOverlay<Actor> statisticsOverlay;
     private static Entity hero;
     private Logger gameLogger;
 
@@ -90,25 +104,74 @@ public class Game extends ScreenAdapter implements IOnLevelLoader {
     }
 
     /**
-     * Main game loop. Redraws the dungeon and calls the own implementation (beginFrame, endFrame
-     * and onLevelLoad).
+     * Main game loop. Runs as many simulation ticks as fit into the elapsed time (see {@link
+     * #frame()}) and redraws the dungeon.
+     *
+     * <p>The simulation runs with a fixed time step of {@link Constants#TIME_STEP}, the rest of the
+     * elapsed time is kept for the next call. Entities are drawn interpolated between the last two
+     * ticks, so the drawing is smooth at any frame rate.
      *
      * @param delta Time since last loop.
      */
     @Override
     public void render(float delta) {
         if (doSetup) setup();
+        if (Gdx.input.isKeyJustPressed(Input.Keys.P)) togglePause();
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) statisticsOverlay.toggle();
+        accumulator += Math.min(delta, Constants.MAX_FRAME_TIME) * timeScale;
+        while (accumulator >= Constants.TIME_STEP) {
+            frame();
+            accumulator -= Constants.TIME_STEP;
+        }
+        tickAlpha = accumulator / Constants.TIME_STEP;
+
+        setCameraFocus();
+        camera.update();
         batch.setProjectionMatrix(camera.combined);
-        frame();
         clearScreen();
         levelAPI.update();
+        // draw the level layer before the entities are drawn by the DrawSystem
+        painter.flush();
+        systems.render();
+        // sprites queued on the painter from here on are only drawn in the next frame
         controller.forEach(AbstractController::update);
-        camera.update();
     }
 
     /** Called once at the beginning of the game. */
     protected void setup() {
         doSetup = false;
+        loadHandler();
+        TextureMap.getInstance()
+                .setAtlas(
+                        TextureAtlasPacker.loadOrPack(
+                                handler.getAssets(TextureAtlasPacker.ATLAS_TEXTURES)));
+        controller = new ArrayList<>();
+        setupCameras();
+        painter = new Painter(batch, camera);
+        generator = new RandomWalkGenerator();
+        levelAPI = new LevelAPI(batch, painter, generator, this, camera);
+        initBaseLogger();
+        gameLogger = Logger.getLogger(this.getClass().getName());
+        systems = new SystemController();
+        pauseMenu = new PauseMenu<>();
+        controller.add(pauseMenu);
+        statisticsOverlay = new SystemStatisticsOverlay<>(systems);
+        controller.add(statisticsOverlay);
+        hero = new Hero();
+        levelAPI =
+                new LevelAPI(
+                        batch,
+                        painter,
+                        new WallGenerator(new RandomWalkGenerator()),
+                        this,
+                        camera);
+        levelAPI.setPrefetching(true);
+        levelAPI.loadLevel(LEVELSIZE);
+        createSystems();
+    }
+
+    /** Creates the handler for the asset paths, see {@link #getHandler()}. */
+    static void loadHandler() {
         /*
          * THIS EXCEPTION HANDLING IS A TEMPORARY WORKAROUND !
          *
@@ -127,29 +190,13 @@ public class Game extends ScreenAdapter implements IOnLevelLoader {
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
-        controller = new ArrayList<>();
-        setupCameras();
-        painter = new Painter(batch, camera);
-        generator = new RandomWalkGenerator();
-        levelAPI = new LevelAPI(batch, painter, generator, this);
-        initBaseLogger();
-        gameLogger = Logger.getLogger(this.getClass().getName());
-        systems = new SystemController();
-        controller.add(systems);
-        pauseMenu = new PauseMenu<>();
-        controller.add(pauseMenu);
-        hero = new Hero();
-        levelAPI = new LevelAPI(batch, painter, new WallGenerator(new RandomWalkGenerator()), this);
-        levelAPI.loadLevel(LEVELSIZE);
-        createSystems();
     }
 
-    /** Called at the beginning of each frame. Before the controllers call <code>update</code>. */
+    /** Called once per simulation tick. Updates the entities and all systems except drawing. */
     protected void frame() {
-        setCameraFocus();
         manageEntitiesSets();
         getHero().ifPresent(this::loadNextLevelIfEntityIsOnEndTile);
-        if (Gdx.input.isKeyJustPressed(Input.Keys.P)) togglePause();
+        systems.update();
     }
 
     @Override
@@ -162,11 +209,13 @@ public class Game extends ScreenAdapter implements IOnLevelLoader {
     private void manageEntitiesSets() {
         entities.removeAll(entitiesToRemove);
         entities.addAll(entitiesToAdd);
-        for (Entity entity : entitiesToRemove) {
-            gameLogger.info("Entity '" + entity.getClass().getSimpleName() + "' was deleted.");
-        }
-        for (Entity entity : entitiesToAdd) {
-            gameLogger.info("Entity '" + entity.getClass().getSimpleName() + "' was added.");
+        if (gameLogger.isLoggable(Level.INFO)) {
+            for (Entity entity : entitiesToRemove) {
+                gameLogger.info("Entity '" + entity.getClass().getSimpleName() + "' was deleted.");
+            }
+            for (Entity entity : entitiesToAdd) {
+                gameLogger.info("Entity '" + entity.getClass().getSimpleName() + "' was added.");
+            }
         }
         entitiesToRemove.clear();
         entitiesToAdd.clear();
@@ -183,7 +232,7 @@ public class Game extends ScreenAdapter implements IOnLevelLoader {
                                             () ->
                                                     new MissingComponentException(
                                                             "PositionComponent"));
-            camera.setFocusPoint(pc.getPosition());
+            camera.setFocusPoint(pc.getInterpolatedPosition(tickAlpha));
 
         } else camera.setFocusPoint(new Point(0, 0));
     }
@@ -212,6 +261,24 @@ public class Game extends ScreenAdapter implements IOnLevelLoader {
         pc.setPosition(currentLevel.getStartTile().getCoordinate().toPoint());
     }
 
+    /**
+     * Lets the simulation run faster or slower than the real time, e.g. to test long game sessions
+     * in a short time. The drawing is not affected.
+     *
+     * @param scale how many times faster than the real time the simulation runs
+     */
+    public static void setTimeScale(float scale) {
+        timeScale = scale;
+    }
+
+    /**
+     * @return how far the currently drawn frame is between the last and the next simulation tick,
+     *     from 0 (last tick) to 1 (next tick)
+     */
+    public static float getTickAlpha() {
+        return tickAlpha;
+    }
+
     public static TextureHandler getHandler() {
         return handler;
     }
@@ -253,6 +320,14 @@ public class Game extends ScreenAdapter implements IOnLevelLoader {
         return entities;
     }
 
+    /**
+     * @return Store with all entities currently in game, used by the systems to iterate over the
+     *     archetypes they need
+     */
+    public static ArchetypeStore getEntityStore() {
+        return entities;
+    }
+
     /**
      * @return Set with all entities that will be added to the game next frame
      */
@@ -288,6 +363,12 @@ public class Game extends ScreenAdapter implements IOnLevelLoader {
         this.batch = batch;
     }
 
+    /** Releases the tile caches of the painter. */
+    @Override
+    public void dispose() {
+        if (painter != null) painter.dispose();
+    }
+
     private void clearScreen() {
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL_COLOR_BUFFER_BIT);
@@ -303,9 +384,10 @@ public class Game extends ScreenAdapter implements IOnLevelLoader {
 
     private void createSystems() {
         new VelocitySystem();
+        new AnimationSystem();
         new DrawSystem(painter);
         new PlayerSystem();
-        new AISystem();
+        new AISystem(true);
         new CollisionSystem();
         new HealthSystem();
         new XPSystem();
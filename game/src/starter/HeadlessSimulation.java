@@ -0,0 +1,215 @@
+package starter;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Files;
+import controller.SystemController;
+import ecs.components.MissingComponentException;
+import ecs.components.PositionComponent;
+import ecs.entities.Entity;
+import ecs.entities.Hero;
+import ecs.systems.AISystem;
+import ecs.systems.AnimationSystem;
+import ecs.systems.CollisionSystem;
+import ecs.systems.DrawSystem;
+import ecs.systems.HealthSystem;
+import ecs.systems.PlayerSystem;
+import ecs.systems.ProjectileSystem;
+import ecs.systems.SkillSystem;
+import ecs.systems.VelocitySystem;
+import ecs.systems.XPSystem;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.logging.Logger;
+import level.IOnLevelLoader;
+import level.LevelAPI;
+import level.cache.LevelCache;
+import level.elements.ILevel;
+import level.generator.IGenerator;
+import level.generator.postGeneration.WallGenerator;
+import level.generator.randomwalk.RandomWalkGenerator;
+import level.tools.DesignLabel;
+import level.tools.LevelSize;
+
+/**
+ * Runs the simulation of the dungeon without a window, OpenGL context or input.
+ *
+ * <p>The simulation uses the same {@link LevelAPI}, {@link SystemController} and systems as the
+ * {@link Game}, except the systems that draw or read the input ({@link DrawSystem}, {@link
+ * PlayerSystem}). Ticks are executed one after another as fast as possible, without waiting for
+ * the real time. This is meant for balance and regression tests that play many levels.
+ *
+ * <p>If a seed is given, the same levels are generated in every run, so slow runs can be replayed.
+ * With the system property <code>dungeon.level.cache</code> set to a directory, these levels are
+ * only generated once and then loaded from the {@link LevelCache}.
+ *
+ * <p>Usage: <code>HeadlessSimulation [levels] [ticksPerLevel] [seed]</code>, see also the gradle
+ * task <code>runHeadless</code>.
+ */
+public class HeadlessSimulation implements IOnLevelLoader {
+    /** System property with the directory of the level cache. */
+    public static final String LEVEL_CACHE_PROPERTY = "dungeon.level.cache";
+
+    private final Logger simulationLogger = Logger.getLogger(this.getClass().getName());
+    private final LevelSize levelSize;
+    private final LevelAPI levelAPI;
+    private final Random levelSeeds;
+    private long ticks = 0;
+    private int levels = 0;
+
+    /**
+     * Sets up the systems and the hero. Replaces the state of the {@link Game} (systems, entities,
+     * hero and level), so it must not be used while a game is running.
+     *
+     * @param generator Level generator
+     * @param levelSize Size of the generated levels
+     */
+    public HeadlessSimulation(IGenerator generator, LevelSize levelSize) {
+        this(generator, levelSize, null);
+    }
+
+    /**
+     * Sets up the systems and the hero. Replaces the state of the {@link Game} (systems, entities,
+     * hero and level), so it must not be used while a game is running.
+     *
+     * @param generator Level generator
+     * @param levelSize Size of the generated levels
+     * @param seed Seed the seeds of the levels are derived from, <code>null</code> for random
+     *     levels
+     */
+    public HeadlessSimulation(IGenerator generator, LevelSize levelSize, Long seed) {
+        this.levelSize = levelSize;
+        levelSeeds = seed == null ? null : new Random(seed);
+        // the asset paths are needed for the animations, reading files does not need a window
+        if (Gdx.files == null) Gdx.files = new Lwjgl3Files();
+        if (Game.getHandler() == null) Game.loadHandler();
+        levelAPI = new LevelAPI(null, null, generator, this);
+        Game.systems = new SystemController();
+        Game.getEntities().clear();
+        Game.getEntitiesToAdd().clear();
+        Game.getEntitiesToRemove().clear();
+        Game.setHero(new Hero());
+        createSystems();
+    }
+
+    private void createSystems() {
+        new VelocitySystem();
+        new AnimationSystem();
+        new AISystem(true);
+        new CollisionSystem();
+        new HealthSystem();
+        new XPSystem();
+        new SkillSystem();
+        new ProjectileSystem();
+    }
+
+    /** Loads a new level, see {@link #onLevelLoad()}. */
+    public void loadLevel() {
+        if (levelSeeds == null) {
+            levelAPI.loadLevel(levelSize);
+        } else {
+            DesignLabel[] designs = DesignLabel.values();
+            levelAPI.loadLevel(
+                    levelSize, designs[levelSeeds.nextInt(designs.length)], levelSeeds.nextLong());
+        }
+    }
+
+    /**
+     * Removes all entities and places the hero on the start tile of the new level. Override to
+     * populate the level, e.g. with monsters, using {@link Game#addEntity(Entity)}.
+     */
+    @Override
+    public void onLevelLoad() {
+        Game.currentLevel = levelAPI.getCurrentLevel();
+        Game.getEntities().clear();
+        levels++;
+        Game.getHero().ifPresent(this::placeOnLevelStart);
+    }
+
+    /**
+     * Executes one simulation tick, like {@link Game#frame()}.
+     *
+     * <p>Loads the next level if the hero reached the end tile.
+     */
+    public void tick() {
+        Game.getEntities().removeAll(Game.getEntitiesToRemove());
+        Game.getEntities().addAll(Game.getEntitiesToAdd());
+        Game.getEntitiesToRemove().clear();
+        Game.getEntitiesToAdd().clear();
+        if (Game.getHero().isPresent() && isOnEndTile(Game.getHero().get())) loadLevel();
+        Game.systems.update();
+        ticks++;
+    }
+
+    /**
+     * Plays the given number of levels, each for the given number of ticks or until the hero
+     * reached the end tile.
+     *
+     * @param levelCount how many levels to play
+     * @param ticksPerLevel maximum number of ticks per level
+     */
+    public void run(int levelCount, int ticksPerLevel) {
+        ILevel level = null;
+        for (int i = 0; i < levelCount; i++) {
+            // if the hero reached the end tile, the next level is already loaded
+            if (i == 0 || Game.currentLevel == level) loadLevel();
+            level = Game.currentLevel;
+            for (int t = 0; t < ticksPerLevel && Game.currentLevel == level; t++) tick();
+        }
+    }
+
+    /**
+     * @return number of executed ticks
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * @return number of loaded levels
+     */
+    public int getLevels() {
+        return levels;
+    }
+
+    private boolean isOnEndTile(Entity entity) {
+        PositionComponent pc =
+                (PositionComponent)
+                        entity.getComponent(PositionComponent.class)
+                                .orElseThrow(
+                                        () -> new MissingComponentException("PositionComponent"));
+        return Game.currentLevel.getTileAt(pc.getPosition().toCoordinate())
+                == Game.currentLevel.getEndTile();
+    }
+
+    private void placeOnLevelStart(Entity hero) {
+        Game.getEntities().add(hero);
+        PositionComponent pc =
+                (PositionComponent)
+                        hero.getComponent(PositionComponent.class)
+                                .orElseThrow(
+                                        () -> new MissingComponentException("PositionComponent"));
+        pc.setPosition(Game.currentLevel.getStartTile().getCoordinate().toPoint());
+    }
+
+    public static void main(String[] args) {
+        int levelCount = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        int ticksPerLevel = args.length > 1 ? Integer.parseInt(args[1]) : 600;
+        Long seed = args.length > 2 ? Long.parseLong(args[2]) : null;
+        HeadlessSimulation simulation =
+                new HeadlessSimulation(
+                        new WallGenerator(new RandomWalkGenerator()), LevelSize.SMALL, seed);
+        String cacheDirectory = System.getProperty(LEVEL_CACHE_PROPERTY);
+        if (cacheDirectory != null)
+            simulation.levelAPI.setLevelCache(new LevelCache(Path.of(cacheDirectory)));
+        long start = System.nanoTime();
+        simulation.run(levelCount, ticksPerLevel);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        simulation.simulationLogger.info(
+                String.format(
+                        "Simulated %d levels and %d ticks in %.2f s (%.0f ticks/s)",
+                        simulation.getLevels(),
+                        simulation.getTicks(),
+                        seconds,
+                        simulation.getTicks() / seconds));
+    }
+}
@@ -30,6 +30,7 @@ public class LibgdxSetup extends com.badlogic.gdx.Game {
 
     @Override
     public void dispose() {
+        game.dispose();
         batch.dispose();
         hudBatch.dispose();
     }
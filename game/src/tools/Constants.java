@@ -8,9 +8,21 @@ public final class Constants {
 
     public static final int WINDOW_HEIGHT = 480;
 
-    /** Frames per seconds. */
+    /**
+     * Simulation ticks (frames) per second. All timers of the game (movement, cooldowns,
+     * animations, ai) count ticks, independent of how often the game is drawn.
+     */
     public static final int FRAME_RATE = 30;
 
+    /** Duration of one simulation tick in seconds. */
+    public static final float TIME_STEP = 1f / FRAME_RATE;
+
+    /**
+     * Maximum time in seconds simulated per drawn frame. If the game hangs longer (e.g. while a
+     * level is loaded), the simulation skips the rest instead of catching up tick by tick.
+     */
+    public static final float MAX_FRAME_TIME = 0.25f;
+
     /** Virtual width and height. */
     public static final float FIELD_WIDTH_AND_HEIGHT_IN_PIXEL = 16f;
 
@@ -0,0 +1,33 @@
+package controller;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class SystemStatisticsTest {
+
+    @Test
+    public void noSamples() {
+        SystemStatistics statistics = new SystemStatistics();
+        assertEquals(0, statistics.getP50Nanos());
+        assertEquals(-1, statistics.getLastEntityCount());
+    }
+
+    @Test
+    public void percentiles() {
+        SystemStatistics statistics = new SystemStatistics();
+        for (int i = 100; i >= 1; i--) statistics.add(i, 0, 5);
+        assertEquals(50, statistics.getP50Nanos());
+        assertEquals(99, statistics.getP99Nanos());
+        assertEquals(1, statistics.getLastNanos());
+        assertEquals(5, statistics.getLastEntityCount());
+    }
+
+    @Test
+    public void onlyLastSamples() {
+        SystemStatistics statistics = new SystemStatistics();
+        for (int i = 0; i < SystemStatistics.SAMPLES; i++) statistics.add(1000, 0, 0);
+        for (int i = 0; i < SystemStatistics.SAMPLES; i++) statistics.add(1, 0, 0);
+        assertEquals(1, statistics.getP99Nanos());
+    }
+}
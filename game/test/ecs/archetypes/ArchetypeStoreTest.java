@@ -0,0 +1,146 @@
+package ecs.archetypes;
+
+import static org.junit.Assert.*;
+
+import ecs.components.Component;
+import ecs.components.HealthComponent;
+import ecs.components.PositionComponent;
+import ecs.entities.Entity;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import starter.Game;
+import tools.Point;
+
+public class ArchetypeStoreTest {
+
+    private ArchetypeStore store;
+
+    @Before
+    public void setup() {
+        Game.getEntities().clear();
+        Game.getEntitiesToAdd().clear();
+        Game.getEntitiesToRemove().clear();
+        store = Game.getEntityStore();
+    }
+
+    @SafeVarargs
+    private List<Entity> collect(Class<? extends Component>... signature) {
+        List<Entity> result = new ArrayList<>();
+        store.forEachArchetype(
+                archetype -> {
+                    for (int i = 0; i < archetype.size(); i++) result.add(archetype.getEntity(i));
+                },
+                signature);
+        return result;
+    }
+
+    @Test
+    public void addAndRemove() {
+        Entity entity = new Entity();
+        new PositionComponent(entity, new Point(0, 0));
+        assertTrue(store.add(entity));
+        assertFalse(store.add(entity));
+        assertTrue(store.contains(entity));
+        assertEquals(List.of(entity), collect(PositionComponent.class));
+
+        assertTrue(store.remove(entity));
+        assertFalse(store.contains(entity));
+        assertTrue(collect(PositionComponent.class).isEmpty());
+    }
+
+    @Test
+    public void onlyMatchingArchetypes() {
+        Entity positionOnly = new Entity();
+        new PositionComponent(positionOnly, new Point(0, 0));
+        Entity both = new Entity();
+        new PositionComponent(both, new Point(0, 0));
+        new HealthComponent(both);
+        store.add(positionOnly);
+        store.add(both);
+
+        assertEquals(2, collect(PositionComponent.class).size());
+        assertEquals(List.of(both), collect(PositionComponent.class, HealthComponent.class));
+        assertEquals(List.of(both), collect(HealthComponent.class));
+    }
+
+    @Test
+    public void componentChangesMoveEntity() {
+        Entity entity = new Entity();
+        store.add(entity);
+        assertTrue(collect(HealthComponent.class).isEmpty());
+
+        HealthComponent hc = new HealthComponent(entity);
+        assertEquals(List.of(entity), collect(HealthComponent.class));
+        store.forEachArchetype(
+                archetype -> assertSame(hc, archetype.getColumn(HealthComponent.class)[0]),
+                HealthComponent.class);
+
+        entity.removeComponent(HealthComponent.class);
+        assertTrue(collect(HealthComponent.class).isEmpty());
+    }
+
+    @Test
+    public void changesDuringIterationAreDeferred() {
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Entity entity = new Entity();
+            new HealthComponent(entity);
+            entities.add(entity);
+        }
+        store.addAll(entities);
+
+        List<Entity> visited = new ArrayList<>();
+        store.forEachArchetype(
+                archetype -> {
+                    for (int i = 0; i < archetype.size(); i++) {
+                        Entity entity = archetype.getEntity(i);
+                        visited.add(entity);
+                        entity.removeComponent(HealthComponent.class);
+                    }
+                },
+                HealthComponent.class);
+
+        assertEquals(10, visited.size());
+        assertTrue(visited.containsAll(entities));
+        assertTrue(collect(HealthComponent.class).isEmpty());
+        assertEquals(10, store.size());
+    }
+
+    @Test
+    public void queryIsUpdatedWithNewArchetypes() {
+        EntityQuery query = store.query(HealthComponent.class);
+        assertSame(query, store.query(HealthComponent.class));
+        assertEquals(0, query.size());
+
+        Entity healthOnly = new Entity();
+        new HealthComponent(healthOnly);
+        Entity both = new Entity();
+        new HealthComponent(both);
+        new PositionComponent(both, new Point(0, 0));
+        store.add(healthOnly);
+        store.add(both);
+
+        assertEquals(2, query.size());
+        List<Entity> visited = new ArrayList<>();
+        query.forEach(
+                archetype -> {
+                    for (int i = 0; i < archetype.size(); i++) visited.add(archetype.getEntity(i));
+                });
+        assertTrue(visited.containsAll(List.of(healthOnly, both)));
+
+        store.remove(both);
+        assertEquals(1, query.size());
+    }
+
+    @Test
+    public void clear() {
+        Entity entity = new Entity();
+        new HealthComponent(entity);
+        store.add(entity);
+        store.clear();
+        assertTrue(store.isEmpty());
+        assertTrue(collect(HealthComponent.class).isEmpty());
+    }
+}
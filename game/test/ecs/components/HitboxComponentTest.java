@@ -444,4 +444,49 @@ public class HitboxComponentTest {
         assertEquals(5, center.x, DELTA);
         assertEquals(5, center.y, DELTA);
     }
+
+    /** Position moved to (3,1) and offset moved to(2,4), bounds are cached after the update */
+    @Test
+    public void updateBoundsPositionMovedOffsetMoved() {
+        Entity e = new Entity();
+        Point position = new Point(3, 1);
+        Point offset = new Point(2, 4);
+        Point size = new Point(1, 2);
+        ICollide iCollide = (a, b, c) -> {};
+        new PositionComponent(e, position);
+        HitboxComponent hb = new HitboxComponent(e, offset, size, iCollide, iCollide);
+        hb.updateBounds();
+
+        assertEquals(5, hb.getMinX(), DELTA);
+        assertEquals(5, hb.getMinY(), DELTA);
+        assertEquals(6, hb.getMaxX(), DELTA);
+        assertEquals(7, hb.getMaxY(), DELTA);
+
+        position.x = 10;
+        assertEquals("Bounds only change on update", 5, hb.getMinX(), DELTA);
+        hb.updateBounds();
+        assertEquals(12, hb.getMinX(), DELTA);
+    }
+
+    /** intersects uses the cached bounds of both hitboxes */
+    @Test
+    public void intersects() {
+        ICollide iCollide = (a, b, c) -> {};
+        Entity e1 = new Entity();
+        new PositionComponent(e1, new Point(0, 0));
+        HitboxComponent hb1 =
+                new HitboxComponent(e1, new Point(0, 0), new Point(1, 1), iCollide, iCollide);
+        Entity e2 = new Entity();
+        PositionComponent pc2 = new PositionComponent(e2, new Point(0.5f, 0.5f));
+        HitboxComponent hb2 =
+                new HitboxComponent(e2, new Point(0, 0), new Point(1, 1), iCollide, iCollide);
+        hb1.updateBounds();
+        hb2.updateBounds();
+        assertTrue(hb1.intersects(hb2));
+        assertTrue(hb2.intersects(hb1));
+
+        pc2.setPosition(new Point(1, 0));
+        hb2.updateBounds(pc2);
+        assertFalse(hb1.intersects(hb2));
+    }
 }
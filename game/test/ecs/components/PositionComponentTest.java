@@ -1,6 +1,7 @@
 package ecs.components;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import ecs.entities.Entity;
 import org.junit.Before;
@@ -25,4 +26,35 @@ public class PositionComponentTest {
         positionComponent.setPosition(newPoint);
         assertEquals(newPoint, positionComponent.getPosition());
     }
+
+    @Test
+    public void moveTo_interpolated() {
+        positionComponent.moveTo(new Point(5, 3));
+        Point interpolated = positionComponent.getInterpolatedPosition(0.25f);
+        assertEquals(3.5f, interpolated.x, 0.001f);
+        assertEquals(3f, interpolated.y, 0.001f);
+        assertEquals(5f, positionComponent.getInterpolatedPosition(1f).x, 0.001f);
+    }
+
+    @Test
+    public void setPosition_notInterpolated() {
+        positionComponent.moveTo(new Point(5, 3));
+        Point newPoint = new Point(10, 10);
+        positionComponent.setPosition(newPoint);
+        assertEquals(newPoint, positionComponent.getInterpolatedPosition(0.5f));
+    }
+
+    @Test
+    public void moveTo_interpolatedIntoPoint() {
+        positionComponent.moveTo(new Point(5, 3));
+        Point out = new Point(0, 0);
+        assertSame(out, positionComponent.getInterpolatedPosition(0.25f, out));
+        assertEquals(3.5f, out.x, 0.001f);
+        assertEquals(3f, out.y, 0.001f);
+
+        positionComponent.setPosition(new Point(10, 10));
+        positionComponent.getInterpolatedPosition(0.5f, out);
+        assertEquals(10f, out.x, 0.001f);
+        assertEquals(10f, out.y, 0.001f);
+    }
 }
@@ -45,6 +45,16 @@ public class AISystemTest {
         assertEquals(1, updateCounter);
     }
 
+    @Test
+    public void updateParallel() {
+        system = new AISystem(true);
+        Game.getEntities().addAll(Game.getEntitiesToAdd());
+        Game.getEntitiesToAdd().clear();
+        system.update();
+        // the transition is only checked once while planning, execute uses the planned decision
+        assertEquals(1, updateCounter);
+    }
+
     @Test
     public void updateWithoutAIComponent() {
         entity.removeComponent(AIComponent.class);
@@ -787,4 +787,137 @@ public class CollisionSystemTest {
         assertEquals("One interaction ends for e3", 1, sc3OnLeave.getCount());
         cleanUpEnvironment();
     }
+
+    /**
+     * Helper to create an Entity with a hitbox that counts its collisions
+     *
+     * @param position Position of the newly created Entity
+     * @param size size of the hitbox
+     * @param onEnter counter for the started collisions
+     * @param onLeave counter for the stopped collisions
+     * @return the configured Entity
+     */
+    private static Entity prepareEntityWithHitbox(
+            Point position, Point size, SimpleCounter onEnter, SimpleCounter onLeave) {
+        Entity entity = prepareEntityWithPosition(position);
+        new HitboxComponent(
+                entity,
+                new Point(0, 0),
+                size,
+                (a, b, c) -> onEnter.inc(),
+                (a, b, c) -> onLeave.inc());
+        return entity;
+    }
+
+    /** Checks that a pair sharing several cells, across a cell boundary, collides only once */
+    @Test
+    public void checkUpdateCollisionStraddlingCellBoundary() {
+        prepareEnvironment();
+        CollisionSystem cs = new CollisionSystem();
+        SimpleCounter sc1OnEnter = new SimpleCounter();
+        SimpleCounter sc1OnLeave = new SimpleCounter();
+        prepareEntityWithHitbox(new Point(.8f, .8f), new Point(.5f, .5f), sc1OnEnter, sc1OnLeave);
+        SimpleCounter sc2OnEnter = new SimpleCounter();
+        SimpleCounter sc2OnLeave = new SimpleCounter();
+        Entity e2 =
+                prepareEntityWithHitbox(
+                        new Point(1.1f, 1.1f), new Point(.5f, .5f), sc2OnEnter, sc2OnLeave);
+
+        cs.update();
+        cs.update();
+        assertEquals("Only one interaction begins for e1", 1, sc1OnEnter.getCount());
+        assertEquals("Only one interaction begins for e2", 1, sc2OnEnter.getCount());
+        assertEquals("No interaction ends for e1", 0, sc1OnLeave.getCount());
+
+        e2.getComponent(PositionComponent.class)
+                .map(PositionComponent.class::cast)
+                .ifPresentOrElse(
+                        x -> x.getPosition().x += 2, () -> fail(MISSING_POSITION_COMPONENT));
+        cs.update();
+        assertEquals("One interaction ends for e1", 1, sc1OnLeave.getCount());
+        assertEquals("One interaction ends for e2", 1, sc2OnLeave.getCount());
+        cleanUpEnvironment();
+    }
+
+    /** Checks that a hitbox spanning several cells collides once with each hitbox it overlaps */
+    @Test
+    public void checkUpdateHitboxSpanningSeveralCells() {
+        prepareEnvironment();
+        CollisionSystem cs = new CollisionSystem();
+        SimpleCounter bigOnEnter = new SimpleCounter();
+        SimpleCounter bigOnLeave = new SimpleCounter();
+        prepareEntityWithHitbox(new Point(0, 0), new Point(3, 3), bigOnEnter, bigOnLeave);
+        Point[] positions = {
+            new Point(.2f, .2f), new Point(1.5f, 1.5f), new Point(2.5f, .2f), new Point(5, 5)
+        };
+        SimpleCounter[] onEnter = new SimpleCounter[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            onEnter[i] = new SimpleCounter();
+            prepareEntityWithHitbox(
+                    positions[i], new Point(.3f, .3f), onEnter[i], new SimpleCounter());
+        }
+
+        cs.update();
+        assertEquals("Three interactions begin for the big hitbox", 3, bigOnEnter.getCount());
+        for (int i = 0; i < 3; i++) {
+            assertEquals("Only one interaction begins", 1, onEnter[i].getCount());
+        }
+        assertEquals("No interaction begins far away", 0, onEnter[3].getCount());
+        cleanUpEnvironment();
+    }
+
+    /** Checks that collisions are found in many cells and after the cells were recycled */
+    @Test
+    public void checkUpdateManyCells() {
+        prepareEnvironment();
+        CollisionSystem cs = new CollisionSystem();
+        int pairs = 100;
+        SimpleCounter onEnter = new SimpleCounter();
+        SimpleCounter onLeave = new SimpleCounter();
+        Entity[] entities = new Entity[2 * pairs];
+        for (int i = 0; i < pairs; i++) {
+            entities[2 * i] =
+                    prepareEntityWithHitbox(
+                            new Point(3 * i + .8f, -i), new Point(.5f, .5f), onEnter, onLeave);
+            entities[2 * i + 1] =
+                    prepareEntityWithHitbox(
+                            new Point(3 * i + 1.1f, -i), new Point(.5f, .5f), onEnter, onLeave);
+        }
+
+        for (int step = 0; step < 10; step++) {
+            cs.update();
+            for (Entity entity : entities) {
+                entity.getComponent(PositionComponent.class)
+                        .map(PositionComponent.class::cast)
+                        .ifPresentOrElse(
+                                x -> x.getPosition().y += 7,
+                                () -> fail(MISSING_POSITION_COMPONENT));
+            }
+        }
+        assertEquals("One interaction begins for each hitbox", 2 * pairs, onEnter.getCount());
+        assertEquals("No interaction ends", 0, onLeave.getCount());
+        cleanUpEnvironment();
+    }
+
+    /** Checks that checkForCollision only reads the bounding boxes refreshed by the update */
+    @Test
+    public void checkForCollisionReadsCachedBounds() {
+        prepareEnvironment();
+        CollisionSystem cs = new CollisionSystem();
+        SimpleCounter counter = new SimpleCounter();
+        Entity e1 = prepareEntityWithHitbox(new Point(0, 0), new Point(1, 1), counter, counter);
+        Entity e2 = prepareEntityWithHitbox(new Point(.5f, 0), new Point(1, 1), counter, counter);
+        HitboxComponent hb1 = (HitboxComponent) e1.getComponent(HitboxComponent.class).get();
+        HitboxComponent hb2 = (HitboxComponent) e2.getComponent(HitboxComponent.class).get();
+        assertTrue(COLLISION_DETECTED_MESSSAGE, cs.checkForCollision(hb1, hb2));
+
+        e2.getComponent(PositionComponent.class)
+                .map(PositionComponent.class::cast)
+                .ifPresentOrElse(
+                        x -> x.getPosition().x += 5, () -> fail(MISSING_POSITION_COMPONENT));
+        assertTrue(COLLISION_DETECTED_MESSSAGE, cs.checkForCollision(hb1, hb2));
+        cs.update();
+        assertFalse(NO_COLLISION_DETECTION_MESSAGE, cs.checkForCollision(hb1, hb2));
+        cleanUpEnvironment();
+    }
 }
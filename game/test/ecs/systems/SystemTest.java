@@ -1,6 +1,8 @@
 package ecs.systems;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import controller.SystemController;
@@ -31,6 +33,37 @@ public class SystemTest {
         assertTrue(Game.systems.contains(testSystem));
     }
 
+    @Test
+    public void renderSystem() {
+        System renderSystem =
+                new System() {
+                    @Override
+                    public void update() {
+                        updates += 10;
+                    }
+
+                    @Override
+                    public boolean isRenderSystem() {
+                        return true;
+                    }
+                };
+        Game.systems.update();
+        assertEquals(1, updates);
+        Game.systems.render();
+        assertEquals(11, updates);
+        assertTrue(Game.systems.contains(renderSystem));
+    }
+
+    @Test
+    public void statistics() {
+        assertNull(Game.systems.getStatistics(testSystem));
+        Game.systems.update();
+        Game.systems.update();
+        assertNotNull(Game.systems.getStatistics(testSystem));
+        assertEquals(-1, Game.systems.getStatistics(testSystem).getLastEntityCount());
+        assertEquals(-1, Game.systems.getTickStatistics().getLastEntityCount());
+    }
+
     @Test
     public void pause() {
         assertEquals(0, updates);
@@ -72,6 +72,24 @@ public class VelocitySystemTest {
         assertEquals(0, velocityComponent.getCurrentYVelocity(), 0.001);
     }
 
+    @Test
+    public void pauseStopsInterpolation() {
+        Mockito.when(tile.isAccessible()).thenReturn(true);
+        velocityComponent.setCurrentXVelocity(xVelocity);
+        velocityComponent.setCurrentYVelocity(yVelocity);
+        velocitySystem.update();
+        assertEquals(
+                startXPosition + xVelocity / 2,
+                positionComponent.getInterpolatedPosition(0.5f).x,
+                0.001);
+
+        velocitySystem.toggleRun();
+        Point position = positionComponent.getPosition();
+        assertEquals(position.x, positionComponent.getInterpolatedPosition(0.5f).x, 0.001);
+        assertEquals(position.y, positionComponent.getInterpolatedPosition(0.5f).y, 0.001);
+        assertEquals(startXPosition + xVelocity, position.x, 0.001);
+    }
+
     @Test
     public void updateValidMoveWithNegativVelocity() {
         Mockito.when(tile.isAccessible()).thenReturn(true);
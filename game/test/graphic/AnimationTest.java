@@ -86,4 +86,16 @@ public class AnimationTest {
         assertEquals(testStrings.get(1), ta.getNextAnimationTexturePath());
         assertEquals(testStrings.get(1), ta.getNextAnimationTexturePath());
     }
+
+    @Test
+    public void CheckAnimation_update_currentTextureOnlyChangesOnUpdate() {
+        List<String> testStrings = List.of("a", "b");
+        Animation ta = new Animation(testStrings, 1, true);
+        assertEquals(testStrings.get(0), ta.getCurrentAnimationTexturePath());
+        assertEquals(testStrings.get(0), ta.getCurrentAnimationTexturePath());
+        ta.update();
+        assertEquals(testStrings.get(1), ta.getCurrentAnimationTexturePath());
+        ta.update();
+        assertEquals(testStrings.get(0), ta.getCurrentAnimationTexturePath());
+    }
 }
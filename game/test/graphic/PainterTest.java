@@ -0,0 +1,115 @@
+package graphic;
+
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import graphic.textures.TextureMap;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import tools.Point;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({TextureMap.class})
+public class PainterTest {
+
+    private SpriteBatch batch;
+    private Painter painter;
+    private TextureRegion regionA;
+    private TextureRegion regionB;
+    private final PainterConfig config = new PainterConfig(1, 1);
+
+    private static TextureRegion region(int textureHandle) {
+        Texture texture = Mockito.mock(Texture.class);
+        when(texture.getTextureObjectHandle()).thenReturn(textureHandle);
+        TextureRegion region = Mockito.mock(TextureRegion.class);
+        when(region.getTexture()).thenReturn(texture);
+        return region;
+    }
+
+    // x-coordinate of a sprite drawn at the position with the default offset
+    private static float x(float position) {
+        return position - 0.85f;
+    }
+
+    @Before
+    public void setup() {
+        regionA = region(2);
+        regionB = region(1);
+        TextureMap textureMap = Mockito.mock(TextureMap.class);
+        PowerMockito.mockStatic(TextureMap.class);
+        when(TextureMap.getInstance()).thenReturn(textureMap);
+        when(textureMap.getTextureRegion("a")).thenReturn(regionA);
+        when(textureMap.getTextureRegion("b")).thenReturn(regionB);
+
+        DungeonCamera camera = Mockito.mock(DungeonCamera.class);
+        when(camera.isPointInFrustum(anyFloat(), anyFloat())).thenReturn(true);
+        batch = Mockito.mock(SpriteBatch.class);
+        painter = new Painter(batch, camera);
+    }
+
+    @Test
+    public void test_flush_sameTextureKeepsOrder() {
+        painter.draw(new Point(0, 0), "a", config);
+        painter.draw(new Point(1, 0), "a", config);
+        painter.draw(new Point(2, 0), "a", config);
+        painter.flush();
+
+        InOrder order = inOrder(batch);
+        order.verify(batch).begin();
+        order.verify(batch).draw(eq(regionA), eq(x(0)), anyFloat(), anyFloat(), anyFloat());
+        order.verify(batch).draw(eq(regionA), eq(x(1)), anyFloat(), anyFloat(), anyFloat());
+        order.verify(batch).draw(eq(regionA), eq(x(2)), anyFloat(), anyFloat(), anyFloat());
+        order.verify(batch).end();
+    }
+
+    @Test
+    public void test_flush_layerBeforeTexture() {
+        // b has the lower texture handle, but is queued in a higher layer
+        painter.draw(new Point(0, 0), "b", config, 1);
+        painter.draw(new Point(1, 0), "a", config);
+        painter.draw(new Point(2, 0), "b", config);
+        painter.draw(new Point(3, 0), "a", config, 1);
+        painter.flush();
+
+        InOrder order = inOrder(batch);
+        order.verify(batch).draw(eq(regionB), eq(x(2)), anyFloat(), anyFloat(), anyFloat());
+        order.verify(batch).draw(eq(regionA), eq(x(1)), anyFloat(), anyFloat(), anyFloat());
+        order.verify(batch).draw(eq(regionB), eq(x(0)), anyFloat(), anyFloat(), anyFloat());
+        order.verify(batch).draw(eq(regionA), eq(x(3)), anyFloat(), anyFloat(), anyFloat());
+    }
+
+    @Test
+    public void test_flush_clearsQueue() {
+        painter.draw(new Point(0, 0), "a", config);
+        painter.flush();
+        painter.flush();
+        verify(batch).begin();
+        verify(batch).draw(eq(regionA), anyFloat(), anyFloat(), anyFloat(), anyFloat());
+        verify(batch).end();
+        verifyNoMoreInteractions(batch);
+    }
+
+    @Test
+    public void test_draw_layerOutOfRange() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> painter.draw(new Point(0, 0), "a", config, Painter.MAX_LAYER + 1));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> painter.draw(new Point(0, 0), "a", config, -1));
+    }
+}
@@ -0,0 +1,87 @@
+package graphic.textures;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TextureAtlasPackerTest {
+    @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+    private FileHandle directory;
+    private FileHandle texture;
+    private Map<String, FileHandle> textures;
+
+    @BeforeClass
+    public static void setUpGdx() {
+        GdxNativesLoader.load(); // load natives for headless testing
+    }
+
+    @Before
+    public void setup() throws Exception {
+        directory = new FileHandle(folder.newFolder("atlas"));
+        texture = new FileHandle(folder.newFile("floor.png"));
+        texture.writeBytes(new byte[] {1, 2, 3}, false);
+        textures = Map.of("dungeon/floor.png", texture);
+    }
+
+    private static PixmapPacker packer() {
+        PixmapPacker packer = new PixmapPacker(16, 16, Pixmap.Format.RGBA8888, 0, false);
+        Pixmap pixmap = new Pixmap(4, 4, Pixmap.Format.RGBA8888);
+        packer.pack("dungeon/floor.png", pixmap);
+        pixmap.dispose();
+        return packer;
+    }
+
+    @Test
+    public void test_cacheFile_hit() {
+        FileHandle cache = TextureAtlasPacker.cacheFile(directory, textures);
+        assertFalse(cache.exists());
+
+        TextureAtlasPacker.save(cache, packer());
+        FileHandle cached = TextureAtlasPacker.cacheFile(directory, textures);
+        assertEquals(cache, cached);
+        assertTrue(cached.exists());
+    }
+
+    @Test
+    public void test_cacheFile_missAfterTextureChanged() {
+        FileHandle cache = TextureAtlasPacker.cacheFile(directory, textures);
+        TextureAtlasPacker.save(cache, packer());
+
+        texture.writeBytes(new byte[] {4}, true);
+        FileHandle changed = TextureAtlasPacker.cacheFile(directory, textures);
+        assertNotEquals(cache, changed);
+        assertFalse(changed.exists());
+    }
+
+    @Test
+    public void test_save_deletesStaleAtlas() {
+        FileHandle other = directory.child("other.txt");
+        other.writeString("other", false);
+        FileHandle stale = TextureAtlasPacker.cacheFile(directory, textures);
+        TextureAtlasPacker.save(stale, packer());
+        FileHandle stalePage = directory.child(stale.nameWithoutExtension() + "_1.png");
+        assertTrue(stalePage.exists());
+
+        texture.writeBytes(new byte[] {4}, true);
+        FileHandle cache = TextureAtlasPacker.cacheFile(directory, textures);
+        TextureAtlasPacker.save(cache, packer());
+        assertTrue(cache.exists());
+        assertTrue(directory.child(cache.nameWithoutExtension() + "_1.png").exists());
+        assertFalse(stale.exists());
+        assertFalse(stalePage.exists());
+        assertTrue(other.exists());
+    }
+}
@@ -0,0 +1,41 @@
+package graphic.textures;
+
+import static org.junit.Assert.assertSame;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import org.junit.After;
+import org.junit.Test;
+
+public class TextureMapTest {
+    private static final String PATH = "dungeon/default/floor/floor_1.png";
+
+    @After
+    public void cleanup() {
+        TextureMap.getInstance().setAtlas(null);
+    }
+
+    @Test
+    public void test_getTextureRegion_packedPath() {
+        TextureAtlas atlas = new TextureAtlas();
+        TextureRegion region = atlas.addRegion(PATH, new TextureRegion());
+        TextureMap.getInstance().setAtlas(atlas);
+
+        assertSame(region, TextureMap.getInstance().getTextureRegion(PATH));
+        // the region is looked up once, then it is cached
+        assertSame(region, TextureMap.getInstance().getTextureRegion(PATH));
+    }
+
+    @Test
+    public void test_setAtlas_replacesCachedRegions() {
+        TextureAtlas atlas = new TextureAtlas();
+        atlas.addRegion(PATH, new TextureRegion());
+        TextureMap.getInstance().setAtlas(atlas);
+        TextureMap.getInstance().getTextureRegion(PATH);
+
+        TextureAtlas packed = new TextureAtlas();
+        TextureRegion region = packed.addRegion(PATH, new TextureRegion());
+        TextureMap.getInstance().setAtlas(packed);
+        assertSame(region, TextureMap.getInstance().getTextureRegion(PATH));
+    }
+}
@@ -2,8 +2,13 @@ package level;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyLong;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -11,11 +16,14 @@ import static org.mockito.Mockito.when;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import graphic.DungeonCamera;
 import graphic.Painter;
 import graphic.PainterConfig;
 import graphic.textures.TextureMap;
 import level.elements.ILevel;
 import level.elements.TileLevel;
+import level.elements.tile.FloorTile;
 import level.elements.tile.Tile;
 import level.generator.IGenerator;
 import level.tools.Coordinate;
@@ -38,6 +46,7 @@ public class TileLevelAPITest {
     private LevelAPI api;
     private IGenerator generator;
     private Texture texture;
+    private TextureRegion region;
     private TextureMap textureMap;
     private Painter painter;
     private SpriteBatch batch;
@@ -53,6 +62,8 @@ public class TileLevelAPITest {
         PowerMockito.mockStatic(TextureMap.class);
         when(TextureMap.getInstance()).thenReturn(textureMap);
         when(textureMap.getTexture(anyString())).thenReturn(texture);
+        region = Mockito.mock(TextureRegion.class);
+        when(textureMap.getTextureRegion(anyString())).thenReturn(region);
 
         painter = Mockito.mock(Painter.class);
         generator = Mockito.mock(IGenerator.class);
@@ -105,6 +116,69 @@ public class TileLevelAPITest {
         assertEquals(level, api.getCurrentLevel());
     }
 
+    @Test
+    public void test_loadLevel_prefetched() {
+        ILevel next = Mockito.mock(TileLevel.class);
+        when(generator.getLevel(any(), eq(LevelSize.SMALL))).thenReturn(level, next);
+        api.setPrefetching(true);
+
+        api.loadLevel(LevelSize.SMALL);
+        assertEquals(level, api.getCurrentLevel());
+        // the next level is generated in the background
+        verify(generator, timeout(1000).times(2)).getLevel(any(), eq(LevelSize.SMALL));
+
+        api.loadLevel(LevelSize.SMALL);
+        assertEquals(next, api.getCurrentLevel());
+        verify(onLevelLoader, times(2)).onLevelLoad();
+        verify(generator, timeout(1000).times(3)).getLevel(any(), eq(LevelSize.SMALL));
+        api.setPrefetching(false);
+    }
+
+    @Test
+    public void test_loadLevel_prefetchedLevelDoesNotMatch() {
+        ILevel other = Mockito.mock(TileLevel.class);
+        when(generator.getLevel(any(), eq(LevelSize.SMALL))).thenReturn(level);
+        when(generator.getLevel(any(), eq(LevelSize.LARGE))).thenReturn(other);
+        api.setPrefetching(true);
+
+        api.loadLevel(LevelSize.SMALL);
+        api.loadLevel(LevelSize.LARGE);
+        assertEquals(other, api.getCurrentLevel());
+        // the small level is not generated again, the next large level is prefetched
+        verify(generator, atMost(2)).getLevel(any(), eq(LevelSize.SMALL));
+        verify(generator, timeout(1000).times(2)).getLevel(any(), eq(LevelSize.LARGE));
+        api.setPrefetching(false);
+    }
+
+    @Test
+    public void test_prefetchLevel() {
+        ILevel other = Mockito.mock(TileLevel.class);
+        when(generator.getLevel(any(), eq(LevelSize.SMALL))).thenReturn(level);
+        when(generator.getLevel(any(), eq(LevelSize.LARGE))).thenReturn(other);
+        api.setPrefetching(true);
+
+        api.loadLevel(LevelSize.SMALL);
+        api.prefetchLevel(LevelSize.LARGE, null);
+        verify(generator, timeout(1000)).getLevel(any(), eq(LevelSize.LARGE));
+        api.loadLevel(LevelSize.LARGE);
+        assertEquals(other, api.getCurrentLevel());
+        // the prefetched level was used, the second call prefetches the next level
+        verify(generator, after(200).times(2)).getLevel(any(), eq(LevelSize.LARGE));
+        api.setPrefetching(false);
+    }
+
+    @Test
+    public void test_loadLevel_seeded_noPrefetch() {
+        when(generator.getLevel(any(), any(), anyLong())).thenReturn(level);
+        api.setPrefetching(true);
+
+        api.loadLevel(LevelSize.SMALL, DesignLabel.DEFAULT, 42);
+        assertEquals(level, api.getCurrentLevel());
+        verify(generator).getLevel(DesignLabel.DEFAULT, LevelSize.SMALL, 42);
+        verify(generator, after(200).never()).getLevel(any(), any());
+        api.setPrefetching(false);
+    }
+
     @Test
     public void test_update() {
         String textureT1 = "dummyPath1";
@@ -143,37 +217,164 @@ public class TileLevelAPITest {
         api.update();
 
         verify(level).getLayout();
+        verify(level).getLayoutVersion();
         verifyNoMoreInteractions(level);
 
         verify(layout[0][0]).getLevelElement();
         verify(layout[0][0]).getTexturePath();
         verify(layout[0][0]).getCoordinate();
-        // for some reason mocktio.verify can't compare the points of the tile correctly
-        verify(painter, times(3))
-                .draw(any(Point.class), any(String.class), any(PainterConfig.class));
         verifyNoMoreInteractions(layout[0][0]);
 
         verify(layout[0][1]).getLevelElement();
         verify(layout[0][1]).getTexturePath();
         verify(layout[0][1]).getCoordinate();
-        // for some reason mocktio.verify can't compare the points of the tile correctly
-        verify(painter, times(3))
-                .draw(any(Point.class), any(String.class), any(PainterConfig.class));
         verifyNoMoreInteractions(layout[0][1]);
         verify(layout[1][0]).getLevelElement();
         verify(layout[1][0]).getTexturePath();
         verify(layout[1][0]).getCoordinate();
-        // for some reason mocktio.verify can't compare the points of the tile correctly
-        verify(painter, times(3))
-                .draw(any(Point.class), any(String.class), any(PainterConfig.class));
         verifyNoMoreInteractions(layout[1][0]);
 
         // do not draw skip tiles
         verify(layout[1][1]).getLevelElement();
         verifyNoMoreInteractions(layout[1][1]);
+
+        // all tiles are in one chunk, which is recorded into one cache
+        verify(painter).clearCaches(4);
+        verify(painter).beginCache();
+        // for some reason mocktio.verify can't compare the points of the tile correctly
+        verify(painter, times(3))
+                .cache(any(Point.class), any(String.class), any(PainterConfig.class));
+        verify(painter).endCache();
+        verify(painter).drawCaches(any(int[].class), eq(1));
         verifyNoMoreInteractions(painter);
     }
 
+    @Test
+    public void test_update_bakesTileLayerOnce() {
+        Tile tile = Mockito.mock(Tile.class);
+        when(tile.getLevelElement()).thenReturn(LevelElement.FLOOR);
+        when(tile.getTexturePath()).thenReturn("dummyPath");
+        when(tile.getCoordinate()).thenReturn(new Coordinate(0, 0));
+        when(level.getLayout()).thenReturn(new Tile[][] {{tile}});
+
+        api.setLevel(level);
+        api.update();
+        api.update();
+        verify(level).getLayout();
+        verify(painter).cache(any(Point.class), any(String.class), any(PainterConfig.class));
+        verify(painter, times(2)).drawCaches(any(int[].class), eq(1));
+
+        // changed layout without changed textures is not recorded again
+        when(level.getLayoutVersion()).thenReturn(1);
+        api.update();
+        verify(level, times(2)).getLayout();
+        verify(painter).clearCaches(1);
+        verify(painter).cache(any(Point.class), any(String.class), any(PainterConfig.class));
+        verify(painter, times(3)).drawCaches(any(int[].class), eq(1));
+    }
+
+    @Test
+    public void test_update_recordsOnlyChangedChunks() {
+        int width = TileLayerCache.CHUNK_SIZE + 1;
+        Tile[][] layout = new Tile[1][width];
+        for (int x = 0; x < width; x++) {
+            layout[0][x] =
+                    new FloorTile("dummyPath", new Coordinate(x, 0), DesignLabel.DEFAULT, null);
+        }
+        when(level.getLayout()).thenReturn(layout);
+        when(painter.endCache()).thenReturn(0, 1);
+
+        api.setLevel(level);
+        api.update();
+        verify(painter, times(width))
+                .cache(any(Point.class), any(String.class), any(PainterConfig.class));
+
+        layout[0][width - 1].setTexturePath("otherPath");
+        when(level.getLayoutVersion()).thenReturn(1);
+        api.update();
+        // only the second chunk is recorded again, into its own cache
+        verify(painter).clearCaches(width);
+        verify(painter).beginCache(1);
+        verify(painter).cache(any(Point.class), eq("otherPath"), any(PainterConfig.class));
+        verify(painter, times(width + 1))
+                .cache(any(Point.class), any(String.class), any(PainterConfig.class));
+    }
+
+    @Test
+    public void test_update_grownChunk() {
+        Tile[][] layout = new Tile[1][3];
+        for (int x = 0; x < 3; x++) {
+            LevelElement element = x == 0 ? LevelElement.FLOOR : LevelElement.SKIP;
+            layout[0][x] = Mockito.mock(Tile.class);
+            when(layout[0][x].getLevelElement()).thenReturn(element);
+            when(layout[0][x].getTexturePath()).thenReturn("dummyPath");
+            when(layout[0][x].getCoordinate()).thenReturn(new Coordinate(x, 0));
+        }
+        when(level.getLayout()).thenReturn(layout);
+
+        api.setLevel(level);
+        api.update();
+        verify(painter).beginCache();
+
+        // the grown chunk is recorded into a new cache, using the room of the skipped tiles
+        when(layout[0][1].getLevelElement()).thenReturn(LevelElement.FLOOR);
+        when(level.getLayoutVersion()).thenReturn(1);
+        api.update();
+        verify(painter).clearCaches(3);
+        verify(painter, times(2)).beginCache();
+
+        // there is no room left for the chunk to grow again, so the layer is baked again
+        when(layout[0][2].getLevelElement()).thenReturn(LevelElement.FLOOR);
+        when(level.getLayoutVersion()).thenReturn(2);
+        api.update();
+        verify(painter, times(2)).clearCaches(3);
+        verify(painter, times(3)).beginCache();
+    }
+
+    @Test
+    public void test_update_onlyVisibleChunks() {
+        int size = 3 * TileLayerCache.CHUNK_SIZE;
+        Tile[][] layout = new Tile[size][size];
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                layout[y][x] =
+                        new FloorTile("dummyPath", new Coordinate(x, y), DesignLabel.DEFAULT, null);
+            }
+        }
+        when(level.getLayout()).thenReturn(layout);
+        DungeonCamera camera = new DungeonCamera(null, 10, 10);
+        camera.setFocusPoint(new Point(5, 5));
+        camera.update();
+        api = new LevelAPI(batch, painter, generator, onLevelLoader, camera);
+
+        api.setLevel(level);
+        api.update();
+        // all chunks are recorded, but only the first chunk is visible
+        verify(painter, times(9)).endCache();
+        verify(painter).drawCaches(any(int[].class), eq(1));
+    }
+
+    @Test
+    public void test_update_skipsEmptyChunks() {
+        int width = TileLayerCache.CHUNK_SIZE + 1;
+        Tile[][] layout = new Tile[1][width];
+        for (int x = 0; x < width; x++) {
+            LevelElement element =
+                    x < TileLayerCache.CHUNK_SIZE ? LevelElement.FLOOR : LevelElement.SKIP;
+            layout[0][x] = Mockito.mock(Tile.class);
+            when(layout[0][x].getLevelElement()).thenReturn(element);
+            when(layout[0][x].getTexturePath()).thenReturn("dummyPath");
+            when(layout[0][x].getCoordinate()).thenReturn(new Coordinate(x, 0));
+        }
+        when(level.getLayout()).thenReturn(layout);
+
+        api.setLevel(level);
+        api.update();
+        verify(painter).beginCache();
+        verify(painter).endCache();
+        verify(painter).drawCaches(any(int[].class), eq(1));
+    }
+
     @Test
     public void test_setLevel() {
         api.setLevel(level);
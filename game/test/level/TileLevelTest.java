@@ -2,10 +2,18 @@ package level;
 
 import static org.junit.Assert.*;
 
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
 import com.badlogic.gdx.ai.pfa.GraphPath;
+import java.lang.ref.WeakReference;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 import level.elements.TileLevel;
 import level.elements.astar.TileConnection;
 import level.elements.tile.ExitTile;
@@ -16,6 +24,7 @@ import level.elements.tile.WallTile;
 import level.tools.Coordinate;
 import level.tools.DesignLabel;
 import level.tools.LevelElement;
+import level.tools.TileTextureFactory;
 import org.junit.Test;
 import tools.Point;
 
@@ -297,6 +306,28 @@ public class TileLevelTest {
         assertEquals(3, path.getCount());
     }
 
+    @Test
+    public void test_findPath_afterChangeTileElementType() {
+        Tile[][] layout = new Tile[1][5];
+        for (int x = 0; x < 4; x++) {
+            layout[0][x] = new FloorTile("", new Coordinate(x, 0), DesignLabel.DEFAULT, null);
+        }
+        layout[0][4] = new ExitTile("", new Coordinate(4, 0), DesignLabel.DEFAULT, null);
+        TileLevel level = new TileLevel(layout);
+        level.setStartTile(layout[0][0]);
+        assertEquals(5, level.findPath(level.getStartTile(), level.getEndTile()).getCount());
+
+        // the number of nodes stays the same, but the tiles at (2, 0) and (4, 0) are replaced
+        level.changeTileElementType(level.getTileAt(new Coordinate(2, 0)), LevelElement.EXIT);
+        Tile end = level.getTileAt(new Coordinate(4, 0));
+        GraphPath<Tile> path = level.findPath(level.getStartTile(), end);
+        assertEquals(5, path.getCount());
+        for (Tile tile : path) {
+            assertSame(level.getTileAt(tile.getCoordinate()), tile);
+        }
+        assertSame(end, path.get(4));
+    }
+
     @Test
     public void test_getTileAt() {
         var levelLayout = new LevelElement[3][3];
@@ -641,33 +672,31 @@ public class TileLevelTest {
                     new LevelElement[] {LevelElement.FLOOR, LevelElement.FLOOR, LevelElement.FLOOR}
                 };
         TileLevel level = new TileLevel(layout, DesignLabel.DEFAULT);
+        int index = level.getTileAt(new Coordinate(1, 0)).getIndex();
         level.changeTileElementType(level.getTileAt(new Coordinate(0, 0)), LevelElement.FLOOR);
-        assertEquals(3, level.getNodeCount());
-        AtomicInteger counter = new AtomicInteger();
-        Arrays.stream(level.getLayout())
-                .flatMap(Arrays::stream)
-                .sorted(Comparator.comparingInt(Tile::getIndex))
-                .filter(Tile::isAccessible)
-                .forEachOrdered(x -> assertEquals(counter.getAndIncrement(), x.getIndex()));
-        assertEquals(3, counter.get());
+        assertEquals(LevelElement.FLOOR, level.getTileAt(new Coordinate(0, 0)).getLevelElement());
+        assertEquals(index, level.getTileAt(new Coordinate(1, 0)).getIndex());
+        assertValidIndices(level);
     }
 
     @Test
     public void test_changeTileElementType_SameAccess() {
         LevelElement[][] layout =
                 new LevelElement[][] {
-                    new LevelElement[] {LevelElement.FLOOR, LevelElement.FLOOR, LevelElement.FLOOR}
+                    new LevelElement[] {
+                        LevelElement.FLOOR,
+                        LevelElement.FLOOR,
+                        LevelElement.FLOOR,
+                        LevelElement.FLOOR,
+                        LevelElement.EXIT
+                    }
                 };
         TileLevel level = new TileLevel(layout, DesignLabel.DEFAULT);
+        int index = level.getTileAt(new Coordinate(1, 0)).getIndex();
         level.changeTileElementType(level.getTileAt(new Coordinate(0, 0)), LevelElement.EXIT);
-        assertEquals(3, level.getNodeCount());
-        AtomicInteger counter = new AtomicInteger();
-        Arrays.stream(level.getLayout())
-                .flatMap(Arrays::stream)
-                .filter(Tile::isAccessible)
-                .sorted(Comparator.comparingInt(Tile::getIndex))
-                .forEachOrdered(x -> assertEquals(counter.getAndIncrement(), x.getIndex()));
-        assertEquals(3, counter.get());
+        assertTrue(level.getTileAt(new Coordinate(0, 0)).isAccessible());
+        assertEquals(index, level.getTileAt(new Coordinate(1, 0)).getIndex());
+        assertValidIndices(level);
     }
 
     @Test
@@ -677,15 +706,120 @@ public class TileLevelTest {
                     new LevelElement[] {LevelElement.FLOOR, LevelElement.FLOOR, LevelElement.FLOOR}
                 };
         TileLevel level = new TileLevel(layout, DesignLabel.DEFAULT);
+        int index = level.getTileAt(new Coordinate(2, 0)).getIndex();
         level.changeTileElementType(level.getTileAt(new Coordinate(0, 0)), LevelElement.WALL);
-        assertEquals(2, level.getNodeCount());
-        AtomicInteger counter = new AtomicInteger();
+        assertFalse(level.getTileAt(new Coordinate(0, 0)).isAccessible());
+        assertEquals(index, level.getTileAt(new Coordinate(2, 0)).getIndex());
+        assertValidIndices(level);
+    }
+
+    @Test
+    public void test_changeTileElementType_otherIndicesStay() {
+        LevelElement[][] layout =
+                new LevelElement[][] {
+                    new LevelElement[] {
+                        LevelElement.FLOOR,
+                        LevelElement.FLOOR,
+                        LevelElement.FLOOR,
+                        LevelElement.FLOOR
+                    }
+                };
+        TileLevel level = new TileLevel(layout, DesignLabel.DEFAULT);
+        Tile[] tilesByIndex = new Tile[level.getNodeCount()];
         Arrays.stream(level.getLayout())
                 .flatMap(Arrays::stream)
-                .sorted(Comparator.comparingInt(Tile::getIndex))
-                .filter(Tile::isAccessible)
-                .forEachOrdered(x -> assertEquals(counter.getAndIncrement(), x.getIndex()));
-        assertEquals(2, counter.get());
+                .forEach(x -> tilesByIndex[x.getIndex()] = x);
+        level.changeTileElementType(tilesByIndex[1], LevelElement.HOLE);
+        assertEquals(0, tilesByIndex[0].getIndex());
+        assertEquals(2, tilesByIndex[2].getIndex());
+        assertEquals(3, tilesByIndex[3].getIndex());
+        assertValidIndices(level);
+    }
+
+    @Test
+    public void test_changeTileElementType_indicesCompacted() {
+        LevelElement[][] layout =
+                new LevelElement[][] {
+                    new LevelElement[] {
+                        LevelElement.FLOOR,
+                        LevelElement.FLOOR,
+                        LevelElement.FLOOR,
+                        LevelElement.FLOOR
+                    }
+                };
+        TileLevel level = new TileLevel(layout, DesignLabel.DEFAULT);
+        Tile end = level.getTileAt(new Coordinate(3, 0));
+        for (int i = 0; i < 100; i++) {
+            LevelElement type = i % 2 == 0 ? LevelElement.HOLE : LevelElement.FLOOR;
+            level.changeTileElementType(level.getTileAt(new Coordinate(0, 0)), type);
+            // freed indices are compacted once they outnumber the accessible tiles
+            assertTrue(level.getNodeCount() <= 2 * 4 + 1);
+            assertValidIndices(level);
+            assertEquals(3, level.findPath(level.getTileAt(new Coordinate(1, 0)), end).getCount());
+        }
+        assertEquals(4, level.findPath(level.getTileAt(new Coordinate(0, 0)), end).getCount());
+    }
+
+    @Test
+    public void test_changeTileElementType_neighbourhoodTexture() {
+        LevelElement[][] layout =
+                new LevelElement[][] {
+                    new LevelElement[] {LevelElement.WALL, LevelElement.WALL, LevelElement.WALL},
+                    new LevelElement[] {LevelElement.WALL, LevelElement.FLOOR, LevelElement.WALL},
+                    new LevelElement[] {LevelElement.WALL, LevelElement.FLOOR, LevelElement.WALL},
+                    new LevelElement[] {LevelElement.WALL, LevelElement.WALL, LevelElement.WALL}
+                };
+        TileLevel level = new TileLevel(layout, DesignLabel.DEFAULT);
+        Tile[][] tiles = level.getLayout();
+        for (Tile[] row : tiles) {
+            for (Tile tile : row) {
+                LevelElement[][] elements =
+                        Arrays.stream(tiles)
+                                .map(x -> Arrays.stream(x).map(Tile::getLevelElement))
+                                .map(x -> x.toArray(LevelElement[]::new))
+                                .toArray(LevelElement[][]::new);
+                elements[tile.getCoordinate().y][tile.getCoordinate().x] = LevelElement.WALL;
+                assertEquals(
+                        TileTextureFactory.findTexturePath(
+                                new TileTextureFactory.LevelPart(
+                                        LevelElement.WALL,
+                                        DesignLabel.DEFAULT,
+                                        elements,
+                                        tile.getCoordinate())),
+                        TileTextureFactory.findTexturePath(tile, tiles, LevelElement.WALL));
+            }
+        }
+    }
+
+    @Test
+    public void test_changeTileElementType_typeLists() {
+        LevelElement[][] layout = new LevelElement[4][5];
+        for (LevelElement[] row : layout) Arrays.fill(row, LevelElement.FLOOR);
+        TileLevel level = new TileLevel(layout, DesignLabel.DEFAULT);
+        LevelElement[] types = {LevelElement.HOLE, LevelElement.WALL, LevelElement.FLOOR};
+        for (int i = 0; i < 60; i++) {
+            Tile tile = level.getTileAt(new Coordinate(i * 7 % 5, i * 3 % 4));
+            level.changeTileElementType(tile, types[i % types.length]);
+        }
+        Tile[] tiles =
+                Arrays.stream(level.getLayout()).flatMap(Arrays::stream).toArray(Tile[]::new);
+        for (LevelElement type : LevelElement.values()) {
+            List<? extends Tile> list =
+                    switch (type) {
+                        case SKIP -> level.getSkipTiles();
+                        case FLOOR -> level.getFloorTiles();
+                        case WALL -> level.getWallTiles();
+                        case HOLE -> level.getHoleTiles();
+                        case DOOR -> level.getDoorTiles();
+                        case EXIT -> level.getExitTiles();
+                    };
+            Set<Tile> expected =
+                    Arrays.stream(tiles)
+                            .filter(x -> x.getLevelElement() == type)
+                            .collect(Collectors.toSet());
+            assertEquals(expected.size(), list.size());
+            assertEquals(expected, new HashSet<>(list));
+        }
     }
 
     @Test
@@ -709,4 +843,112 @@ public class TileLevelTest {
         assertNotEquals(LevelElement.WALL, level.getTileAt(new Coordinate(1, 0)).getLevelElement());
         assertEquals(3, counter.get());
     }
+
+    @Test
+    public void test_changeTileElementType_marksLayoutChanged() {
+        LevelElement[][] layout =
+                new LevelElement[][] {
+                    new LevelElement[] {LevelElement.FLOOR, LevelElement.FLOOR, LevelElement.FLOOR}
+                };
+        TileLevel level = new TileLevel(layout, DesignLabel.DEFAULT);
+        int version = level.getLayoutVersion();
+        level.changeTileElementType(level.getTileAt(new Coordinate(0, 0)), LevelElement.WALL);
+        assertNotEquals(version, level.getLayoutVersion());
+    }
+
+    @Test
+    public void test_setTexturePath_marksLayoutChanged() {
+        LevelElement[][] layout =
+                new LevelElement[][] {
+                    new LevelElement[] {LevelElement.FLOOR, LevelElement.FLOOR, LevelElement.FLOOR}
+                };
+        TileLevel level = new TileLevel(layout, DesignLabel.DEFAULT);
+        int version = level.getLayoutVersion();
+        level.getTileAt(new Coordinate(1, 0)).setTexturePath("other");
+        assertNotEquals(version, level.getLayoutVersion());
+    }
+
+    @Test
+    public void test_findPath_reusePath() {
+        LevelElement[][] layout =
+                new LevelElement[][] {
+                    new LevelElement[] {LevelElement.FLOOR, LevelElement.FLOOR, LevelElement.FLOOR},
+                    new LevelElement[] {LevelElement.FLOOR, LevelElement.WALL, LevelElement.FLOOR}
+                };
+        TileLevel level = new TileLevel(layout, DesignLabel.DEFAULT);
+        Tile start = level.getTileAt(new Coordinate(0, 1));
+        Tile end = level.getTileAt(new Coordinate(2, 1));
+        GraphPath<Tile> path = new DefaultGraphPath<>();
+
+        assertTrue(level.findPath(start, end, path));
+        assertEquals(5, path.getCount());
+        assertTrue(level.findPath(end, start, path));
+        assertEquals(5, path.getCount());
+        assertEquals(end, path.get(0));
+        assertEquals(start, path.get(4));
+        assertEquals(level.findPath(start, end).getCount(), path.getCount());
+    }
+
+    @Test
+    public void test_findPath_noPath() {
+        LevelElement[][] layout =
+                new LevelElement[][] {
+                    new LevelElement[] {LevelElement.FLOOR, LevelElement.WALL, LevelElement.FLOOR}
+                };
+        TileLevel level = new TileLevel(layout, DesignLabel.DEFAULT);
+        GraphPath<Tile> path = new DefaultGraphPath<>();
+        path.add(level.getTileAt(new Coordinate(0, 0)));
+
+        assertFalse(
+                level.findPath(
+                        level.getTileAt(new Coordinate(0, 0)),
+                        level.getTileAt(new Coordinate(2, 0)),
+                        path));
+        assertEquals(0, path.getCount());
+    }
+
+    @Test
+    public void test_findPath_levelCanBeCollected() throws Exception {
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        try {
+            WeakReference<TileLevel> level = searchedLevel(worker);
+            for (int i = 0; i < 100 && level.get() != null; i++) {
+                System.gc();
+                Thread.sleep(10);
+            }
+            assertNull("the threads must not keep the level alive", level.get());
+        } finally {
+            worker.shutdown();
+        }
+    }
+
+    // level that was searched on this thread and on the still running worker thread
+    private static WeakReference<TileLevel> searchedLevel(ExecutorService worker)
+            throws Exception {
+        LevelElement[][] layout =
+                new LevelElement[][] {
+                    new LevelElement[] {LevelElement.FLOOR, LevelElement.FLOOR, LevelElement.FLOOR}
+                };
+        TileLevel level = new TileLevel(layout, DesignLabel.DEFAULT);
+        Tile start = level.getTileAt(new Coordinate(0, 0));
+        Tile end = level.getTileAt(new Coordinate(2, 0));
+        assertEquals(3, level.findPath(start, end).getCount());
+        int count = worker.submit(() -> level.findPath(start, end).getCount()).get();
+        assertEquals(3, count);
+        return new WeakReference<>(level);
+    }
+
+    // every accessible tile has its own index below the node count
+    private static void assertValidIndices(TileLevel level) {
+        int[] indices =
+                Arrays.stream(level.getLayout())
+                        .flatMap(Arrays::stream)
+                        .filter(Tile::isAccessible)
+                        .mapToInt(Tile::getIndex)
+                        .toArray();
+        assertEquals(indices.length, Arrays.stream(indices).distinct().count());
+        for (int index : indices) {
+            assertTrue(index >= 0 && index < level.getNodeCount());
+        }
+    }
 }
@@ -71,4 +71,22 @@ public class TileTest {
         assertEquals(Tile.Direction.E, northWestToSouthEast[0]);
         assertEquals(Tile.Direction.S, northWestToSouthEast[1]);
     }
+
+    @Test
+    public void test_connections() {
+        Tile tile = new FloorTile("", new Coordinate(0, 0), DesignLabel.DEFAULT, null);
+        Tile east = new FloorTile("", new Coordinate(1, 0), DesignLabel.DEFAULT, null);
+        Tile north = new FloorTile("", new Coordinate(0, 1), DesignLabel.DEFAULT, null);
+        tile.addConnection(east);
+        tile.addConnection(north);
+        assertTrue(tile.isConnectedTo(east));
+        assertTrue(tile.isConnectedTo(north));
+        assertFalse(east.isConnectedTo(tile));
+        assertEquals(1, tile.getConnections().first().getCost(), 0.0001f);
+
+        tile.removeConnection(east);
+        assertFalse(tile.isConnectedTo(east));
+        assertEquals(1, tile.getConnections().size);
+        assertSame(north, tile.getConnections().first().getToNode());
+    }
 }
@@ -1,6 +1,7 @@
 package level;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import level.tools.Coordinate;
 import level.tools.DesignLabel;
@@ -468,4 +469,17 @@ public class TileTextureFactoryTest {
                         new TileTextureFactory.LevelPart(
                                 layout[coordinate.y][coordinate.x], design, layout, coordinate)));
     }
+
+    @Test
+    public void test_findTexturePath_sharedPath() {
+        Coordinate first = new Coordinate(5, 5);
+        Coordinate second = new Coordinate(6, 6);
+        assertSame(
+                TileTextureFactory.findTexturePath(
+                        new TileTextureFactory.LevelPart(
+                                layout[first.y][first.x], design, layout, first)),
+                TileTextureFactory.findTexturePath(
+                        new TileTextureFactory.LevelPart(
+                                layout[second.y][second.x], design, layout, second)));
+    }
 }
@@ -0,0 +1,54 @@
+package level.cache;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import level.elements.ILevel;
+import level.generator.IGenerator;
+import level.generator.randomwalk.RandomWalkGenerator;
+import level.tools.DesignLabel;
+import level.tools.LevelSize;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class LevelCacheTest {
+    @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void generatedOnlyOnce() {
+        IGenerator generator = spy(new RandomWalkGenerator());
+        LevelCache cache = new LevelCache(folder.getRoot().toPath().resolve("levels"));
+
+        ILevel level = cache.getLevel(generator, DesignLabel.DEFAULT, LevelSize.SMALL, 3);
+        ILevel cached = cache.getLevel(generator, DesignLabel.DEFAULT, LevelSize.SMALL, 3);
+        verify(generator, times(1))
+                .getLevel(eq(DesignLabel.DEFAULT), eq(LevelSize.SMALL), anyLong());
+        LevelSerializerTest.assertSameLevel(level, cached);
+
+        // another seed is another level
+        assertFalse(cache.load(generator, DesignLabel.DEFAULT, LevelSize.SMALL, 4).isPresent());
+    }
+
+    @Test
+    public void corruptFileIsGeneratedAgain() throws Exception {
+        IGenerator generator = new RandomWalkGenerator();
+        Path directory = folder.getRoot().toPath();
+        LevelCache cache = new LevelCache(directory);
+        cache.getLevel(generator, DesignLabel.DEFAULT, LevelSize.SMALL, 3);
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) Files.write(file, new byte[] {1, 2, 3});
+        }
+
+        assertFalse(cache.load(generator, DesignLabel.DEFAULT, LevelSize.SMALL, 3).isPresent());
+        cache.getLevel(generator, DesignLabel.DEFAULT, LevelSize.SMALL, 3);
+        assertTrue(cache.load(generator, DesignLabel.DEFAULT, LevelSize.SMALL, 3).isPresent());
+    }
+}
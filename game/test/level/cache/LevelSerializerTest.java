@@ -0,0 +1,75 @@
+package level.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import level.elements.ILevel;
+import level.elements.TileLevel;
+import level.elements.tile.Tile;
+import level.generator.postGeneration.WallGenerator;
+import level.generator.randomwalk.RandomWalkGenerator;
+import level.room.Room;
+import level.tools.DesignLabel;
+import level.tools.LevelElement;
+import level.tools.LevelSize;
+import org.junit.Test;
+
+public class LevelSerializerTest {
+
+    @Test
+    public void writeAndRead() {
+        ILevel level =
+                new WallGenerator(new RandomWalkGenerator())
+                        .getLevel(DesignLabel.DEFAULT, LevelSize.MEDIUM, 42);
+        ILevel read = LevelSerializer.read(ByteBuffer.wrap(LevelSerializer.write(level)));
+        assertSameLevel(level, read);
+    }
+
+    @Test
+    public void runLengthEncoded() {
+        LevelElement[][] layout = new LevelElement[100][100];
+        for (LevelElement[] row : layout) Arrays.fill(row, LevelElement.FLOOR);
+        TileLevel level = new TileLevel(layout, DesignLabel.DEFAULT);
+        byte[] bytes = LevelSerializer.write(level);
+        // far less than one byte per tile
+        assertTrue(bytes.length < 1000);
+        assertSameLevel(level, LevelSerializer.read(ByteBuffer.wrap(bytes)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void readCorrupt() {
+        ILevel level = new RandomWalkGenerator().getLevel(DesignLabel.DEFAULT, LevelSize.SMALL, 1);
+        byte[] bytes = LevelSerializer.write(level);
+        LevelSerializer.read(ByteBuffer.wrap(bytes, 0, bytes.length / 2));
+    }
+
+    @Test
+    public void roomsAreNotSupported() {
+        LevelElement[][] layout = {{LevelElement.FLOOR, LevelElement.FLOOR}};
+        assertFalse(LevelSerializer.isSupported(new Room(layout, DesignLabel.DEFAULT, null)));
+    }
+
+    /** Asserts that both levels have the same tiles, start tile and end tile. */
+    public static void assertSameLevel(ILevel expected, ILevel actual) {
+        Tile[][] expectedLayout = expected.getLayout();
+        Tile[][] actualLayout = actual.getLayout();
+        assertEquals(expectedLayout.length, actualLayout.length);
+        for (int y = 0; y < expectedLayout.length; y++) {
+            assertEquals(expectedLayout[y].length, actualLayout[y].length);
+            for (int x = 0; x < expectedLayout[y].length; x++) {
+                Tile expectedTile = expectedLayout[y][x];
+                Tile actualTile = actualLayout[y][x];
+                assertEquals(expectedTile.getLevelElement(), actualTile.getLevelElement());
+                assertEquals(expectedTile.getTexturePath(), actualTile.getTexturePath());
+                assertEquals(expectedTile.getDesignLabel(), actualTile.getDesignLabel());
+                assertEquals(expectedTile.getCoordinate(), actualTile.getCoordinate());
+            }
+        }
+        assertEquals(
+                expected.getStartTile().getCoordinate(), actual.getStartTile().getCoordinate());
+        assertEquals(expected.getEndTile().getCoordinate(), actual.getEndTile().getCoordinate());
+    }
+}
@@ -0,0 +1,80 @@
+package level.elements.astar;
+
+import static org.junit.Assert.*;
+
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import level.elements.TileLevel;
+import level.elements.tile.Tile;
+import level.tools.Coordinate;
+import level.tools.DesignLabel;
+import level.tools.LevelElement;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FlowFieldTest {
+    private static final LevelElement F = LevelElement.FLOOR;
+    private static final LevelElement W = LevelElement.WALL;
+
+    private TileLevel level;
+    private FlowField flowField;
+
+    @Before
+    public void setup() {
+        /* How the level layout looks: (W=Wall, F=Floor) FFF FWF FWF */
+        LevelElement[][] layout =
+                new LevelElement[][] {
+                    new LevelElement[] {F, F, F},
+                    new LevelElement[] {F, W, F},
+                    new LevelElement[] {F, W, F}
+                };
+        level = new TileLevel(layout, DesignLabel.DEFAULT);
+        flowField = new FlowField();
+    }
+
+    @Test
+    public void test_costs() {
+        Tile goal = level.getTileAt(new Coordinate(0, 2));
+        assertTrue(flowField.update(level, goal));
+        assertEquals(0, flowField.getCost(goal), 0.001f);
+        assertEquals(2, flowField.getCost(level.getTileAt(new Coordinate(0, 0))), 0.001f);
+        assertEquals(6, flowField.getCost(level.getTileAt(new Coordinate(2, 2))), 0.001f);
+        // walls are not part of the flow field
+        assertEquals(
+                Float.POSITIVE_INFINITY,
+                flowField.getCost(level.getTileAt(new Coordinate(1, 1))),
+                0.001f);
+    }
+
+    @Test
+    public void test_nextTile() {
+        Tile goal = level.getTileAt(new Coordinate(0, 2));
+        flowField.update(level, goal);
+        assertEquals(
+                level.getTileAt(new Coordinate(1, 0)),
+                flowField.getNextTile(level.getTileAt(new Coordinate(2, 0))));
+        assertNull(flowField.getNextTile(goal));
+    }
+
+    @Test
+    public void test_fillPath_sameLengthAsAStar() {
+        Tile start = level.getTileAt(new Coordinate(2, 2));
+        Tile goal = level.getTileAt(new Coordinate(0, 2));
+        flowField.update(level, goal);
+        GraphPath<Tile> path = new DefaultGraphPath<>();
+        flowField.fillPath(start, path);
+        assertEquals(level.findPath(start, goal).getCount(), path.getCount());
+        assertEquals(start, path.get(0));
+        assertEquals(goal, path.get(path.getCount() - 1));
+    }
+
+    @Test
+    public void test_update_onlyIfChanged() {
+        Tile goal = level.getTileAt(new Coordinate(0, 2));
+        assertTrue(flowField.update(level, goal));
+        assertFalse(flowField.update(level, goal));
+        assertTrue(flowField.update(level, level.getTileAt(new Coordinate(0, 0))));
+        level.getTileAt(new Coordinate(2, 2)).setTexturePath("other");
+        assertTrue(flowField.update(level, level.getTileAt(new Coordinate(0, 0))));
+    }
+}
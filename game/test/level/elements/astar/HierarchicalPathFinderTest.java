@@ -0,0 +1,215 @@
+package level.elements.astar;
+
+import static org.junit.Assert.*;
+
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import level.elements.TileLevel;
+import level.elements.tile.Tile;
+import level.tools.Coordinate;
+import level.tools.DesignLabel;
+import level.tools.LevelElement;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HierarchicalPathFinderTest {
+    private static final int WIDTH = 3 * HierarchicalPathFinder.SECTOR_SIZE;
+    private static final int HEIGHT = 20;
+    private static final Coordinate GAP = new Coordinate(WIDTH / 2, 10);
+
+    private TileLevel level;
+    private HierarchicalPathFinder pathFinder;
+
+    @Before
+    public void setup() {
+        // a wall in the middle of the level with one gap
+        LevelElement[][] layout = new LevelElement[HEIGHT][WIDTH];
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                layout[y][x] =
+                        x == GAP.x && y != GAP.y ? LevelElement.WALL : LevelElement.FLOOR;
+            }
+        }
+        level = new TileLevel(layout, DesignLabel.DEFAULT);
+        pathFinder = new HierarchicalPathFinder(level);
+    }
+
+    private static void assertValidPath(GraphPath<Tile> path, Tile start, Tile end) {
+        assertEquals(start, path.get(0));
+        assertEquals(end, path.get(path.getCount() - 1));
+        for (int i = 1; i < path.getCount(); i++) {
+            Coordinate a = path.get(i - 1).getCoordinate();
+            Coordinate b = path.get(i).getCoordinate();
+            assertEquals(1, Math.abs(a.x - b.x) + Math.abs(a.y - b.y));
+            assertTrue(path.get(i).isAccessible());
+        }
+    }
+
+    @Test
+    public void test_findPath_throughGap() {
+        Tile start = level.getTileAt(new Coordinate(0, 0));
+        Tile end = level.getTileAt(new Coordinate(WIDTH - 1, 0));
+        GraphPath<Tile> path = new DefaultGraphPath<>();
+
+        assertTrue(pathFinder.findPath(start, end, path));
+        assertValidPath(path, start, end);
+        boolean throughGap = false;
+        for (Tile tile : path) throughGap |= tile == level.getTileAt(GAP);
+        assertTrue(throughGap);
+        assertTrue(path.getCount() >= level.findPath(start, end).getCount());
+    }
+
+    @Test
+    public void test_findPath_sameSector() {
+        Tile start = level.getTileAt(new Coordinate(0, 0));
+        Tile end = level.getTileAt(new Coordinate(3, 4));
+        GraphPath<Tile> path = new DefaultGraphPath<>();
+
+        assertTrue(pathFinder.findPath(start, end, path));
+        assertValidPath(path, start, end);
+        assertEquals(8, path.getCount());
+    }
+
+    @Test
+    public void test_findPath_invalidate() {
+        Tile start = level.getTileAt(new Coordinate(0, 0));
+        Tile end = level.getTileAt(new Coordinate(WIDTH - 1, 0));
+        GraphPath<Tile> path = new DefaultGraphPath<>();
+        assertTrue(pathFinder.findPath(start, end, path));
+
+        level.changeTileElementType(level.getTileAt(GAP), LevelElement.WALL);
+        pathFinder.invalidate(GAP);
+        assertFalse(pathFinder.findPath(start, end, path));
+        assertEquals(0, path.getCount());
+    }
+
+    @Test
+    public void test_levelFindPath_longPath() {
+        Tile start = level.getTileAt(new Coordinate(0, 0));
+        Tile end = level.getTileAt(new Coordinate(WIDTH - 1, HEIGHT - 1));
+        GraphPath<Tile> path = new DefaultGraphPath<>();
+
+        assertTrue(level.findPath(start, end, path));
+        assertValidPath(path, start, end);
+        level.changeTileElementType(level.getTileAt(GAP), LevelElement.WALL);
+        assertFalse(level.findPath(start, end, path));
+    }
+
+    @Test
+    public void test_findPath_sameReachabilityAsAStar() {
+        int size = 4 * HierarchicalPathFinder.SECTOR_SIZE;
+        Random random = new Random(11);
+        LevelElement[][] layout = new LevelElement[size][size];
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                layout[y][x] = random.nextInt(100) < 40 ? LevelElement.WALL : LevelElement.FLOOR;
+            }
+        }
+        TileLevel maze = new TileLevel(layout, DesignLabel.DEFAULT, random);
+        HierarchicalPathFinder hierarchical = new HierarchicalPathFinder(maze);
+        IndexedAStarPathFinder<Tile> aStar = new IndexedAStarPathFinder<>(maze);
+        List<Tile> floor = new ArrayList<>(maze.getFloorTiles());
+        GraphPath<Tile> path = new DefaultGraphPath<>();
+        GraphPath<Tile> aStarPath = new DefaultGraphPath<>();
+        for (int i = 0; i < 300; i++) {
+            Tile start = floor.get(random.nextInt(floor.size()));
+            Tile end = floor.get(random.nextInt(floor.size()));
+            aStarPath.clear();
+            boolean reachable = aStar.searchNodePath(start, end, new TileHeuristic(), aStarPath);
+            assertEquals(reachable, hierarchical.findPath(start, end, path));
+            if (reachable) assertValidPath(path, start, end);
+        }
+    }
+
+    @Test
+    public void test_findPath_parallel() throws Exception {
+        Tile start = level.getTileAt(new Coordinate(0, 0));
+        Tile end = level.getTileAt(new Coordinate(WIDTH - 1, HEIGHT - 1));
+        GraphPath<Tile> expected = new DefaultGraphPath<>();
+        assertTrue(pathFinder.findPath(start, end, expected));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<GraphPath<Tile>>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(
+                        executor.submit(
+                                () -> {
+                                    GraphPath<Tile> path = new DefaultGraphPath<>();
+                                    for (int k = 0; k < 50; k++) {
+                                        assertTrue(pathFinder.findPath(start, end, path));
+                                    }
+                                    return path;
+                                }));
+            }
+            for (Future<GraphPath<Tile>> result : results) {
+                GraphPath<Tile> path = result.get();
+                assertEquals(expected.getCount(), path.getCount());
+                for (int i = 0; i < path.getCount(); i++) assertSame(expected.get(i), path.get(i));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void test_findPath_parallelWithRebuilds() throws Exception {
+        Tile start = level.getTileAt(new Coordinate(0, 0));
+        Tile end = level.getTileAt(new Coordinate(WIDTH - 1, HEIGHT - 1));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(
+                        executor.submit(
+                                () -> {
+                                    GraphPath<Tile> path = new DefaultGraphPath<>();
+                                    for (int k = 0; k < 100; k++) {
+                                        assertTrue(pathFinder.findPath(start, end, path));
+                                        assertValidPath(path, start, end);
+                                    }
+                                }));
+            }
+            // the searches run while the sectors are rebuilt again and again
+            for (int k = 0; k < 200; k++) pathFinder.invalidate(new Coordinate(k % WIDTH, 0));
+            for (Future<?> result : results) result.get();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void test_levelFindPath_levelCanBeCollected() throws Exception {
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        try {
+            WeakReference<TileLevel> searched = searchedLevel(worker);
+            level = null;
+            pathFinder = null;
+            for (int i = 0; i < 100 && searched.get() != null; i++) {
+                System.gc();
+                Thread.sleep(10);
+            }
+            assertNull("the threads must not keep the level alive", searched.get());
+        } finally {
+            worker.shutdown();
+        }
+    }
+
+    // level whose long paths were searched on this thread and on the still running worker thread
+    private WeakReference<TileLevel> searchedLevel(ExecutorService worker) throws Exception {
+        TileLevel searched = level;
+        Tile start = searched.getTileAt(new Coordinate(0, 0));
+        Tile end = searched.getTileAt(new Coordinate(WIDTH - 1, HEIGHT - 1));
+        assertTrue(searched.findPath(start, end).getCount() > 0);
+        assertTrue(worker.submit(() -> searched.findPath(start, end).getCount() > 0).get());
+        return new WeakReference<>(searched);
+    }
+}
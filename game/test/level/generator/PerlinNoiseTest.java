@@ -0,0 +1,49 @@
+package level.generator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import level.generator.perlinNoise.PerlinNoise;
+import org.junit.Test;
+
+public class PerlinNoiseTest {
+
+    private static PerlinNoise noise(long seed) {
+        return new PerlinNoise(93, 117, new int[] {4, 5}, false, new Random(seed));
+    }
+
+    @Test
+    public void test_noiseAll_sameSeed() {
+        double[][] first = noise(42).noiseAll(1);
+        double[][] second = noise(42).noiseAll(1);
+        assertEquals(93, first.length);
+        for (int x = 0; x < first.length; x++) {
+            assertEquals(117, first[x].length);
+            assertArrayEquals(first[x], second[x], 0);
+        }
+    }
+
+    @Test
+    public void test_noiseAll_range() {
+        for (double[] column : noise(7).noiseAll(1)) {
+            for (double value : column) {
+                assertTrue(value >= 0 && value <= 1);
+            }
+        }
+    }
+
+    @Test
+    public void test_noiseAll_zoom() {
+        double[][] full = noise(3).noiseAll(1);
+        double[][] zoomed = noise(3).noiseAll(2);
+        assertEquals(46, zoomed.length);
+        for (int x = 0; x < zoomed.length; x++) {
+            assertEquals(58, zoomed[x].length);
+            for (int y = 0; y < zoomed[x].length; y++) {
+                assertEquals(full[2 * x][2 * y], zoomed[x][y], 0);
+            }
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package level.generator;
 
+import static level.cache.LevelSerializerTest.assertSameLevel;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertNotNull;
 
 import level.elements.ILevel;
+import level.generator.postGeneration.WallGenerator;
 import level.generator.randomwalk.RandomWalkGenerator;
+import level.tools.DesignLabel;
+import level.tools.LevelSize;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -27,4 +32,20 @@ public class RandomWalkGeneratorTest {
         // can be beaten.
         assert ((level.findPath(level.getStartTile(), level.getEndTile()).getCount() > 0));
     }
+
+    @Test
+    public void test_getLayout_sameSeed() {
+        assertArrayEquals(
+                generator.getLayout(LevelSize.MEDIUM, 42),
+                generator.getLayout(LevelSize.MEDIUM, 42));
+    }
+
+    @Test
+    public void test_getLevel_sameSeed() {
+        IGenerator wallGenerator = new WallGenerator(generator);
+        assertSameLevel(
+                wallGenerator.getLevel(DesignLabel.DEFAULT, LevelSize.MEDIUM, 42),
+                wallGenerator.getLevel(DesignLabel.DEFAULT, LevelSize.MEDIUM, 42));
+        assertSameLevel(wallGenerator.getLevel(7), wallGenerator.getLevel(7));
+    }
 }
@@ -0,0 +1,107 @@
+package level.levelgraph;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import level.elements.tile.DoorTile;
+import level.elements.tile.Tile;
+import level.room.IRoom;
+import level.room.Room;
+import level.tools.Coordinate;
+import level.tools.DesignLabel;
+import level.tools.LevelSize;
+import org.junit.Test;
+
+public class GraphLevelTest {
+
+    // a tree of seven rooms, so the rooms are generated on several threads
+    private static List<LevelNode> createGraph() {
+        List<LevelNode> nodes = new ArrayList<>();
+        for (int i = 0; i < 7; i++) nodes.add(new LevelNode());
+        nodes.get(0).connect(nodes.get(1), DoorDirection.RIGHT, DoorTile.DoorColor.RED);
+        nodes.get(0).connect(nodes.get(2), DoorDirection.DOWN, DoorTile.DoorColor.NONE);
+        nodes.get(1).connect(nodes.get(3), DoorDirection.RIGHT, DoorTile.DoorColor.BLUE);
+        nodes.get(2).connect(nodes.get(4), DoorDirection.LEFT, DoorTile.DoorColor.NONE);
+        nodes.get(3).connect(nodes.get(5), DoorDirection.UP, DoorTile.DoorColor.GREEN);
+        nodes.get(4).connect(nodes.get(6), DoorDirection.DOWN, DoorTile.DoorColor.NONE);
+        return nodes;
+    }
+
+    // the room generator can not place all doors for every seed, the seeds of the tests can
+    private static List<LevelNode> generate(long seed) {
+        List<LevelNode> nodes = createGraph();
+        new GraphLevel(nodes.get(0), LevelSize.SMALL, DesignLabel.DEFAULT, seed);
+        return nodes;
+    }
+
+    private static String describe(Coordinate c) {
+        return "(" + c.x + "," + c.y + ")";
+    }
+
+    private static int roomOf(List<LevelNode> nodes, DoorTile door) {
+        for (int i = 0; i < nodes.size(); i++) {
+            if (nodes.get(i).getRoom().getDoors().contains(door)) return i;
+        }
+        return -1;
+    }
+
+    // layout, start tile and doors of all rooms
+    private static String describe(List<LevelNode> nodes) {
+        StringBuilder description = new StringBuilder();
+        for (LevelNode node : nodes) {
+            IRoom room = node.getRoom();
+            for (Tile[] row : room.getLayout()) {
+                for (Tile tile : row) {
+                    description.append(tile.getLevelElement()).append(tile.getTexturePath());
+                }
+                description.append('\n');
+            }
+            Coordinate start = ((Room) room).getStartTile().getCoordinate();
+            description.append("start ").append(describe(start));
+            for (DoorTile door : room.getDoors()) {
+                description.append(" door ").append(describe(door.getCoordinate()));
+                if (door.getOtherDoor() != null) {
+                    description
+                            .append(" to room ")
+                            .append(roomOf(nodes, door.getOtherDoor()))
+                            .append(describe(door.getOtherDoor().getCoordinate()))
+                            .append(" step ")
+                            .append(describe(door.getDoorstep().getCoordinate()));
+                }
+            }
+            description.append('\n');
+        }
+        return description.toString();
+    }
+
+    @Test
+    public void test_sameSeed_sameLevel() {
+        List<LevelNode> first = generate(3);
+        List<LevelNode> second = generate(3);
+        assertEquals(describe(first), describe(second));
+    }
+
+    @Test
+    public void test_doorsLinked() {
+        List<LevelNode> nodes = generate(7);
+        int links = 0;
+        for (LevelNode node : nodes) {
+            for (DoorTile door : node.getRoom().getDoors()) {
+                if (door.getOtherDoor() == null) continue;
+                assertNotNull(door.getDoorstep());
+                assertEquals(door, door.getOtherDoor().getOtherDoor());
+                links++;
+            }
+        }
+        // every edge of the tree has a door on both sides
+        assertEquals(2 * (nodes.size() - 1), links);
+    }
+
+    @Test
+    public void test_otherSeed_otherLevel() {
+        assertNotEquals(describe(generate(3)), describe(generate(4)));
+    }
+}
@@ -0,0 +1,100 @@
+package logging;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import org.junit.After;
+import org.junit.Test;
+
+public class GameLoggerTest {
+    private static final String NAME = "logging.GameLoggerTest";
+
+    @After
+    public void cleanup() {
+        LoggerConfig.setLevel(NAME, null);
+    }
+
+    @Test
+    public void supplierOnlyCalledIfEnabled() {
+        LoggerConfig.setLevel(NAME, Level.INFO);
+        GameLogger logger = GameLogger.getLogger(GameLoggerTest.class);
+        int[] calls = {0};
+        logger.debug(
+                () -> {
+                    calls[0]++;
+                    return "debug";
+                });
+        assertEquals(0, calls[0]);
+        assertFalse(logger.isDebugEnabled());
+
+        LoggerConfig.setLevel(NAME, CustomLogLevel.TRACE);
+        logger.debug(
+                () -> {
+                    calls[0]++;
+                    return "debug";
+                });
+        assertEquals(1, calls[0]);
+        assertTrue(logger.isTraceEnabled());
+    }
+
+    @Test
+    public void setLevels() {
+        LoggerConfig.setLevels("logging.GameLoggerTest=DEBUG, invalid");
+        assertEquals(CustomLogLevel.DEBUG, Logger.getLogger(NAME).getLevel());
+        LoggerConfig.setLevels("logging.GameLoggerTest=warning");
+        assertEquals(Level.WARNING, Logger.getLogger(NAME).getLevel());
+    }
+
+    @Test
+    public void setLevels_unknownLevelSkipped() {
+        LoggerConfig.setLevels("logging.GameLoggerTest=VERBOSE, logging.GameLoggerTest=DEBUG");
+        assertEquals(CustomLogLevel.DEBUG, Logger.getLogger(NAME).getLevel());
+        LoggerConfig.setLevels("logging.GameLoggerTest=VERBOSE");
+        assertEquals(CustomLogLevel.DEBUG, Logger.getLogger(NAME).getLevel());
+    }
+
+    @Test
+    public void getLogger_samePerClass() {
+        assertSame(
+                GameLogger.getLogger(GameLoggerTest.class),
+                GameLogger.getLogger(GameLoggerTest.class));
+    }
+
+    @Test
+    public void sourceIsCaller() {
+        LoggerConfig.setLevel(NAME, Level.INFO);
+        List<LogRecord> records = new ArrayList<>();
+        Handler handler =
+                new Handler() {
+                    @Override
+                    public void publish(LogRecord record) {
+                        records.add(record);
+                    }
+
+                    @Override
+                    public void flush() {}
+
+                    @Override
+                    public void close() {}
+                };
+        Logger.getLogger(NAME).addHandler(handler);
+        try {
+            GameLogger logger = GameLogger.getLogger(GameLoggerTest.class);
+            logger.info(() -> "supplied");
+            logger.log(Level.INFO, "message");
+        } finally {
+            Logger.getLogger(NAME).removeHandler(handler);
+        }
+
+        assertEquals(2, records.size());
+        for (LogRecord record : records) {
+            assertEquals(NAME, record.getSourceClassName());
+            assertEquals("sourceIsCaller", record.getSourceMethodName());
+        }
+    }
+}